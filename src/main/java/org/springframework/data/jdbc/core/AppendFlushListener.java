@@ -0,0 +1,19 @@
+package org.springframework.data.jdbc.core;
+
+/**
+ * Outcome of a batch written by the {@link JdbcAppendWriter}, invoked by the
+ * thread that wrote it.
+ */
+@FunctionalInterface
+public interface AppendFlushListener {
+
+	/**
+	 * @param rows         rows in the batch
+	 * @param latencyNanos time spent writing the batch
+	 * @param queueDepth   entities still queued
+	 * @param error        failure of the batch, {@literal null} if it was
+	 *                     written
+	 */
+	void onFlush(int rows, long latencyNanos, int queueDepth, Throwable error);
+
+}
@@ -0,0 +1,43 @@
+package org.springframework.data.jdbc.core;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 异步追加写入的参数
+ *
+ */
+@Getter
+@Builder
+public class AppendOptions {
+
+	/**
+	 * 队列容量，队满时调用方等待
+	 */
+	@Builder.Default
+	int capacity = 10000;
+
+	/**
+	 * 每批插入的最大行数，队列中积压达到该行数时立即写入
+	 */
+	@Builder.Default
+	int batchSize = 500;
+
+	/**
+	 * 入队后最长等待的毫秒数，不足一批时到期也写入
+	 */
+	@Builder.Default
+	long maxDelayMillis = 100;
+
+	/**
+	 * 队满时调用方最长等待的毫秒数，超时后由调用方同步插入
+	 */
+	@Builder.Default
+	long offerTimeoutMillis = 1000;
+
+	/**
+	 * 每批写入后的回调，可为空
+	 */
+	AppendFlushListener listener;
+
+}
@@ -0,0 +1,314 @@
+package org.springframework.data.jdbc.core;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * Raw column values of a batch of rows, copied from a live {@link ResultSet}
+ * so that they can be mapped on another thread after the cursor has moved on.
+ * LOBs are read into {@code byte[]} and {@link String} while copying.
+ * {@link #getResultSet()} exposes the batch through the read-only getters row
+ * mappers use.
+ */
+class BufferedRows {
+
+	private final Columns columns;
+
+	private final List<Object[]> rows;
+
+	BufferedRows(Columns columns, int capacity) {
+		this.columns = columns;
+		this.rows = new ArrayList<>(capacity);
+	}
+
+	/**
+	 * Copy the current row of {@code rs}.
+	 */
+	void add(ResultSet rs) throws SQLException {
+		Object[] row = new Object[columns.labels.length];
+
+		for (int i = 0; i < row.length; i++) {
+			Object value = rs.getObject(i + 1);
+
+			if (value instanceof Blob) {
+				value = rs.getBytes(i + 1);
+			} else if (value instanceof Clob) {
+				value = rs.getString(i + 1);
+			}
+
+			row[i] = value;
+		}
+
+		rows.add(row);
+	}
+
+	int size() {
+		return rows.size();
+	}
+
+	/**
+	 * Forward only view of the rows: {@link ResultSet#next()} moves to the
+	 * following row. Positioned on the first row.
+	 */
+	ResultSet getResultSet() {
+		return (ResultSet) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] { ResultSet.class },
+				new Cursor());
+	}
+
+	/**
+	 * Labels and types of the columns of a result set, shared by its batches.
+	 */
+	static class Columns {
+
+		private final String[] labels;
+
+		private final String[] names;
+
+		private final String[] classNames;
+
+		private final int[] types;
+
+		private final String[] typeNames;
+
+		private final Map<String, Integer> indexes = new HashMap<>();
+
+		Columns(ResultSetMetaData metaData) throws SQLException {
+			int count = metaData.getColumnCount();
+
+			this.labels = new String[count];
+			this.names = new String[count];
+			this.classNames = new String[count];
+			this.types = new int[count];
+			this.typeNames = new String[count];
+
+			for (int i = count; i > 0; i--) {
+				labels[i - 1] = metaData.getColumnLabel(i);
+				names[i - 1] = metaData.getColumnName(i);
+				classNames[i - 1] = metaData.getColumnClassName(i);
+				types[i - 1] = metaData.getColumnType(i);
+				typeNames[i - 1] = metaData.getColumnTypeName(i);
+				indexes.put(labels[i - 1].toLowerCase(Locale.ROOT), i);
+			}
+		}
+
+	}
+
+	private class Cursor implements InvocationHandler {
+
+		private final ResultSetMetaData metaData = (ResultSetMetaData) Proxy.newProxyInstance(
+				getClass().getClassLoader(), new Class<?>[] { ResultSetMetaData.class }, this::invokeMetaData);
+
+		private int position = 0;
+
+		private boolean wasNull = false;
+
+		@Override
+		public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+			String name = method.getName();
+
+			if (args != null && args.length > 0 && args[0] instanceof String && name.startsWith("get")) {
+				args[0] = findColumn((String) args[0]);
+			}
+
+			switch (name) {
+			case "next":
+				return ++position < rows.size();
+			case "getRow":
+				return position + 1;
+			case "wasNull":
+				return wasNull;
+			case "findColumn":
+				return findColumn((String) args[0]);
+			case "getMetaData":
+				return metaData;
+			case "getType":
+				return ResultSet.TYPE_FORWARD_ONLY;
+			case "getConcurrency":
+				return ResultSet.CONCUR_READ_ONLY;
+			case "isClosed":
+				return false;
+			case "close":
+			case "getStatement":
+			case "getWarnings":
+			case "clearWarnings":
+				return null;
+			case "isWrapperFor":
+				return ((Class<?>) args[0]).isInstance(proxy);
+			case "unwrap":
+				return ((Class<?>) args[0]).cast(proxy);
+			case "hashCode":
+				return System.identityHashCode(proxy);
+			case "equals":
+				return proxy == args[0];
+			case "toString":
+				return "BufferedRows row " + (position + 1) + " of " + rows.size();
+			default:
+			}
+
+			if (!name.startsWith("get") || args == null || !(args[0] instanceof Integer)) {
+				throw new SQLFeatureNotSupportedException(name + " is not supported on buffered rows");
+			}
+
+			Object value = rows.get(position)[(Integer) args[0] - 1];
+			wasNull = value == null;
+
+			return read(name, value, args.length > 1 && args[1] instanceof Class ? (Class<?>) args[1] : null,
+					method.getReturnType());
+		}
+
+		private int findColumn(String label) throws SQLException {
+			Integer index = columns.indexes.get(label.toLowerCase(Locale.ROOT));
+
+			if (index == null) {
+				throw new SQLException("Column " + label + " not found");
+			}
+
+			return index;
+		}
+
+		@Nullable
+		private Object read(String name, @Nullable Object value, @Nullable Class<?> type, Class<?> returnType)
+				throws SQLException {
+			if (value == null) {
+				return returnType.isPrimitive() ? defaultValue(returnType) : null;
+			}
+
+			switch (name) {
+			case "getObject":
+				return type == null ? value : convert(value, type);
+			case "getString":
+			case "getNString":
+				return value.toString();
+			case "getLong":
+				return value instanceof Number ? ((Number) value).longValue() : Long.parseLong(value.toString());
+			case "getInt":
+				return value instanceof Number ? ((Number) value).intValue() : Integer.parseInt(value.toString());
+			case "getShort":
+				return value instanceof Number ? ((Number) value).shortValue() : Short.parseShort(value.toString());
+			case "getByte":
+				return value instanceof Number ? ((Number) value).byteValue() : Byte.parseByte(value.toString());
+			case "getDouble":
+				return value instanceof Number ? ((Number) value).doubleValue() : Double.parseDouble(value.toString());
+			case "getFloat":
+				return value instanceof Number ? ((Number) value).floatValue() : Float.parseFloat(value.toString());
+			case "getBoolean":
+				return value instanceof Boolean ? value
+						: value instanceof Number ? ((Number) value).intValue() != 0 : parseBoolean(value.toString());
+			case "getBigDecimal":
+				return value instanceof BigDecimal ? value : new BigDecimal(value.toString());
+			case "getBytes":
+			case "getTimestamp":
+			case "getDate":
+			case "getTime":
+				return convert(value, returnType);
+			default:
+				throw new SQLFeatureNotSupportedException(name + " is not supported on buffered rows");
+			}
+		}
+
+		private Object convert(Object value, Class<?> type) throws SQLException {
+			if (type.isInstance(value)) {
+				return value;
+			}
+
+			if (type == Timestamp.class && value instanceof LocalDateTime) {
+				return Timestamp.valueOf((LocalDateTime) value);
+			}
+
+			if (type == LocalDateTime.class && value instanceof Timestamp) {
+				return ((Timestamp) value).toLocalDateTime();
+			}
+
+			if (type == Date.class && value instanceof LocalDate) {
+				return Date.valueOf((LocalDate) value);
+			}
+
+			if (type == LocalDate.class && value instanceof Date) {
+				return ((Date) value).toLocalDate();
+			}
+
+			if (type == Time.class && value instanceof LocalTime) {
+				return Time.valueOf((LocalTime) value);
+			}
+
+			if (type == LocalTime.class && value instanceof Time) {
+				return ((Time) value).toLocalTime();
+			}
+
+			if (type == String.class) {
+				return value.toString();
+			}
+
+			throw new SQLException("Cannot read " + value.getClass().getName() + " as " + type.getName());
+		}
+
+		private Object invokeMetaData(Object proxy, Method method, Object[] args) throws Throwable {
+			switch (method.getName()) {
+			case "getColumnCount":
+				return columns.labels.length;
+			case "getColumnLabel":
+				return columns.labels[(Integer) args[0] - 1];
+			case "getColumnName":
+				return columns.names[(Integer) args[0] - 1];
+			case "getColumnClassName":
+				return columns.classNames[(Integer) args[0] - 1];
+			case "getColumnType":
+				return columns.types[(Integer) args[0] - 1];
+			case "getColumnTypeName":
+				return columns.typeNames[(Integer) args[0] - 1];
+			case "hashCode":
+				return System.identityHashCode(proxy);
+			case "equals":
+				return proxy == args[0];
+			default:
+				throw new SQLFeatureNotSupportedException(method.getName() + " is not supported on buffered rows");
+			}
+		}
+
+	}
+
+	private static Object defaultValue(Class<?> primitiveType) {
+		return Array.get(Array.newInstance(primitiveType, 1), 0);
+	}
+
+	/**
+	 * Character columns as drivers read them: {@code "1"}, {@code "Y"} and the
+	 * like are {@literal true}.
+	 */
+	private static boolean parseBoolean(String value) {
+		switch (value.trim().toLowerCase()) {
+		case "1":
+		case "true":
+		case "t":
+		case "y":
+		case "yes":
+		case "on":
+			return true;
+		default:
+			return false;
+		}
+	}
+
+}
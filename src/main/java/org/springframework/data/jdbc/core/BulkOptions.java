@@ -0,0 +1,35 @@
+package org.springframework.data.jdbc.core;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 分批批量删除/更新的参数
+ *
+ */
+@Getter
+@Builder
+public class BulkOptions {
+
+	/**
+	 * 每批处理的行数，每批单独提交事务
+	 */
+	@Builder.Default
+	int chunkSize = 1000;
+
+	/**
+	 * 每批之间暂停的毫秒数，用于限流
+	 */
+	@Builder.Default
+	long pauseMillis = 0;
+
+	/**
+	 * 每批提交后的进度回调，可为空
+	 */
+	BulkProgressListener listener;
+
+	public static BulkOptions ofChunkSize(int chunkSize) {
+		return BulkOptions.builder().chunkSize(chunkSize).build();
+	}
+
+}
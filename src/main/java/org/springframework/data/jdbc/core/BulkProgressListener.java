@@ -0,0 +1,16 @@
+package org.springframework.data.jdbc.core;
+
+/**
+ * Progress of a chunked bulk operation, invoked after each committed chunk.
+ */
+@FunctionalInterface
+public interface BulkProgressListener {
+
+	/**
+	 * @param chunk    1-based number of the committed chunk
+	 * @param affected rows affected by this chunk
+	 * @param total    rows affected so far
+	 */
+	void onChunk(int chunk, int affected, long total);
+
+}
@@ -0,0 +1,127 @@
+package org.springframework.data.jdbc.core;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.data.jdbc.core.ColumnarResult.Column;
+import org.springframework.data.jdbc.core.ColumnarResult.DoubleColumn;
+import org.springframework.data.jdbc.core.ColumnarResult.IntColumn;
+import org.springframework.data.jdbc.core.ColumnarResult.LongColumn;
+import org.springframework.data.jdbc.core.ColumnarResult.ObjectColumn;
+import org.springframework.data.jdbc.core.ColumnarResult.StringColumn;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Rows to insert held column by column in arrays, keyed by property name. A
+ * {@code NULL} is marked by bit {@code row % 64} of {@code nulls[row / 64]},
+ * the layout of {@link ColumnarResult}. The arrays are not copied.
+ *
+ * @see JdbcColumnarTemplate#insertColumns
+ */
+public class ColumnBatch {
+
+	private final int size;
+
+	private final Map<String, Column> columns = new LinkedHashMap<>();
+
+	/**
+	 * @param size number of rows, the arrays may be longer
+	 */
+	public ColumnBatch(int size) {
+		Assert.isTrue(size >= 0, "Size must not be negative");
+		this.size = size;
+	}
+
+	/**
+	 * All columns of {@code result}, for example to copy rows between tables.
+	 */
+	public static ColumnBatch of(ColumnarResult result) {
+		ColumnBatch batch = new ColumnBatch(result.size());
+
+		for (String name : result.getColumnNames()) {
+			batch.columns.put(name, result.getColumn(name));
+		}
+
+		return batch;
+	}
+
+	public ColumnBatch column(String property, long[] values) {
+		return column(property, values, null);
+	}
+
+	public ColumnBatch column(String property, long[] values, @Nullable long[] nulls) {
+		assertLength(values.length, nulls);
+		return add(property, new LongColumn(values, nulls));
+	}
+
+	public ColumnBatch column(String property, int[] values) {
+		return column(property, values, null);
+	}
+
+	public ColumnBatch column(String property, int[] values, @Nullable long[] nulls) {
+		assertLength(values.length, nulls);
+		return add(property, new IntColumn(values, nulls));
+	}
+
+	public ColumnBatch column(String property, double[] values) {
+		return column(property, values, null);
+	}
+
+	public ColumnBatch column(String property, double[] values, @Nullable long[] nulls) {
+		assertLength(values.length, nulls);
+		return add(property, new DoubleColumn(values, nulls));
+	}
+
+	/**
+	 * Dictionary encoded strings.
+	 *
+	 * @param property
+	 * @param codes      index into {@code dictionary} per row
+	 * @param dictionary
+	 * @param nulls
+	 * @return this batch
+	 */
+	public ColumnBatch column(String property, int[] codes, List<String> dictionary, @Nullable long[] nulls) {
+		Assert.notNull(dictionary, "Dictionary must not be null");
+		assertLength(codes.length, nulls);
+		return add(property, new StringColumn(codes, dictionary, nulls));
+	}
+
+	/**
+	 * Values of any other type, converted like entity properties. A
+	 * {@literal null} element is {@code NULL}.
+	 */
+	public ColumnBatch column(String property, Object[] values) {
+		assertLength(values.length, null);
+		return add(property, new ObjectColumn(values, null));
+	}
+
+	/**
+	 * @return number of rows
+	 */
+	public int size() {
+		return size;
+	}
+
+	Map<String, Column> getColumns() {
+		return Collections.unmodifiableMap(columns);
+	}
+
+	private ColumnBatch add(String property, Column column) {
+		Assert.hasText(property, "Property must not be empty");
+		Assert.isTrue(!columns.containsKey(property), () -> "Duplicate column " + property);
+
+		columns.put(property, column);
+
+		return this;
+	}
+
+	private void assertLength(int length, @Nullable long[] nulls) {
+		Assert.isTrue(length >= size, () -> "Column has " + length + " values for " + size + " rows");
+		Assert.isTrue(nulls == null || nulls.length >= (size + 63) >>> 6, "Null bitmap is too short");
+	}
+
+}
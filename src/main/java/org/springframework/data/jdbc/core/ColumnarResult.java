@@ -0,0 +1,253 @@
+package org.springframework.data.jdbc.core;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * Column oriented query result. Numeric columns are held in primitive arrays,
+ * strings are dictionary encoded and {@code NULL}s are marked in a bitmap per
+ * column, so a row costs a few bytes per column instead of an entity with
+ * boxed fields.
+ *
+ * @see JdbcColumnarTemplate#findColumns
+ */
+public class ColumnarResult {
+
+	private final int size;
+
+	private final Map<String, Column> columns;
+
+	ColumnarResult(int size, Map<String, Column> columns) {
+		this.size = size;
+		this.columns = columns;
+	}
+
+	/**
+	 * @return number of rows
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * @return names of the columns in select order
+	 */
+	public List<String> getColumnNames() {
+		return Collections.unmodifiableList(new ArrayList<>(columns.keySet()));
+	}
+
+	public Column getColumn(String name) {
+		Column column = columns.get(name);
+
+		if (column == null) {
+			throw new IllegalArgumentException("No column " + name + " in " + columns.keySet());
+		}
+
+		return column;
+	}
+
+	public LongColumn getLongColumn(String name) {
+		return getColumn(name, LongColumn.class);
+	}
+
+	public IntColumn getIntColumn(String name) {
+		return getColumn(name, IntColumn.class);
+	}
+
+	public DoubleColumn getDoubleColumn(String name) {
+		return getColumn(name, DoubleColumn.class);
+	}
+
+	public StringColumn getStringColumn(String name) {
+		return getColumn(name, StringColumn.class);
+	}
+
+	private <C extends Column> C getColumn(String name, Class<C> type) {
+		Column column = getColumn(name);
+
+		if (!type.isInstance(column)) {
+			throw new IllegalArgumentException(
+					"Column " + name + " is a " + column.getClass().getSimpleName() + ", not a " + type.getSimpleName());
+		}
+
+		return type.cast(column);
+	}
+
+	/**
+	 * Values of one column. A {@code NULL} reads as {@literal 0} from the
+	 * primitive arrays, check {@link #isNull(int)} where it matters.
+	 */
+	public abstract static class Column {
+
+		@Nullable
+		private final long[] nulls;
+
+		Column(@Nullable long[] nulls) {
+			this.nulls = nulls;
+		}
+
+		public boolean isNull(int row) {
+			return nulls != null && (nulls[row >>> 6] & (1L << row)) != 0;
+		}
+
+		/**
+		 * @return whether the column has any {@code NULL}
+		 */
+		public boolean hasNulls() {
+			return nulls != null;
+		}
+
+		/**
+		 * @return boxed value, {@literal null} for {@code NULL}
+		 */
+		@Nullable
+		public abstract Object getObject(int row);
+
+	}
+
+	public static class LongColumn extends Column {
+
+		private final long[] values;
+
+		LongColumn(long[] values, @Nullable long[] nulls) {
+			super(nulls);
+			this.values = values;
+		}
+
+		public long get(int row) {
+			return values[row];
+		}
+
+		/**
+		 * @return the values, one per row, not copied
+		 */
+		public long[] getValues() {
+			return values;
+		}
+
+		@Override
+		public Object getObject(int row) {
+			return isNull(row) ? null : values[row];
+		}
+
+	}
+
+	public static class IntColumn extends Column {
+
+		private final int[] values;
+
+		IntColumn(int[] values, @Nullable long[] nulls) {
+			super(nulls);
+			this.values = values;
+		}
+
+		public int get(int row) {
+			return values[row];
+		}
+
+		/**
+		 * @return the values, one per row, not copied
+		 */
+		public int[] getValues() {
+			return values;
+		}
+
+		@Override
+		public Object getObject(int row) {
+			return isNull(row) ? null : values[row];
+		}
+
+	}
+
+	public static class DoubleColumn extends Column {
+
+		private final double[] values;
+
+		DoubleColumn(double[] values, @Nullable long[] nulls) {
+			super(nulls);
+			this.values = values;
+		}
+
+		public double get(int row) {
+			return values[row];
+		}
+
+		/**
+		 * @return the values, one per row, not copied
+		 */
+		public double[] getValues() {
+			return values;
+		}
+
+		@Override
+		public Object getObject(int row) {
+			return isNull(row) ? null : values[row];
+		}
+
+	}
+
+	/**
+	 * Strings as codes into a dictionary of the distinct values.
+	 */
+	public static class StringColumn extends Column {
+
+		private final int[] codes;
+
+		private final List<String> dictionary;
+
+		StringColumn(int[] codes, List<String> dictionary, @Nullable long[] nulls) {
+			super(nulls);
+			this.codes = codes;
+			this.dictionary = dictionary;
+		}
+
+		@Nullable
+		public String get(int row) {
+			return isNull(row) ? null : dictionary.get(codes[row]);
+		}
+
+		/**
+		 * @return index into {@link #getDictionary()} per row, not copied
+		 */
+		public int[] getCodes() {
+			return codes;
+		}
+
+		/**
+		 * @return the distinct values in order of their first occurrence
+		 */
+		public List<String> getDictionary() {
+			return dictionary;
+		}
+
+		@Override
+		public Object getObject(int row) {
+			return get(row);
+		}
+
+	}
+
+	/**
+	 * Columns of any other type, as read by the driver.
+	 */
+	public static class ObjectColumn extends Column {
+
+		private final Object[] values;
+
+		ObjectColumn(Object[] values, @Nullable long[] nulls) {
+			super(nulls);
+			this.values = values;
+		}
+
+		@Override
+		public Object getObject(int row) {
+			return values[row];
+		}
+
+	}
+
+}
@@ -0,0 +1,164 @@
+package org.springframework.data.jdbc.core;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * RFC 4180 CSV records read through a {@link FileChannel} into a direct
+ * buffer and decoded in place, so that neither the file nor a line is ever
+ * held as a whole.
+ */
+class CsvReader implements Closeable {
+
+	private static final int BUFFER_SIZE = 1 << 20;
+
+	private final FileChannel channel;
+
+	private final CharsetDecoder decoder;
+
+	private final char delimiter;
+
+	private final ByteBuffer bytes = ByteBuffer.allocateDirect(BUFFER_SIZE);
+
+	private final CharBuffer chars = CharBuffer.allocate(BUFFER_SIZE);
+
+	private boolean eof = false;
+
+	private boolean decoded = false;
+
+	private long lines = 0;
+
+	private long recordLine = 0;
+
+	CsvReader(Path path, Charset charset, char delimiter) throws IOException {
+		this.channel = FileChannel.open(path, StandardOpenOption.READ);
+		this.decoder = charset.newDecoder().onMalformedInput(CodingErrorAction.REPORT)
+				.onUnmappableCharacter(CodingErrorAction.REPORT);
+		this.delimiter = delimiter;
+		this.chars.flip();
+	}
+
+	/**
+	 * @return fields of the next record, {@literal null} at the end of the file
+	 */
+	@Nullable
+	String[] next() throws IOException {
+		List<String> fields = new ArrayList<>();
+		StringBuilder field = new StringBuilder();
+		boolean quoted = false;
+		boolean any = false;
+		int c;
+
+		recordLine = lines + 1;
+
+		while ((c = read()) >= 0) {
+			any = true;
+
+			if (quoted) {
+				if (c != '"') {
+					lines += c == '\n' ? 1 : 0;
+					field.append((char) c);
+				} else if (peek() == '"') {
+					field.append((char) read());
+				} else {
+					quoted = false;
+				}
+			} else if (c == '"') {
+				quoted = true;
+			} else if (c == delimiter) {
+				fields.add(field.toString());
+				field.setLength(0);
+			} else if (c == '\n' || c == '\r') {
+				if (c == '\r' && peek() == '\n') {
+					read();
+				}
+
+				lines++;
+				break;
+			} else if (c != '\uFEFF' || recordLine > 1 || !fields.isEmpty() || field.length() > 0) {
+				field.append((char) c);
+			}
+		}
+
+		if (!any) {
+			return null;
+		}
+
+		fields.add(field.toString());
+
+		return fields.toArray(new String[fields.size()]);
+	}
+
+	/**
+	 * @return 1-based line the last record started at
+	 */
+	long getLine() {
+		return recordLine;
+	}
+
+	@Override
+	public void close() throws IOException {
+		channel.close();
+	}
+
+	private int read() throws IOException {
+		if (!chars.hasRemaining() && !fill()) {
+			return -1;
+		}
+
+		return chars.get();
+	}
+
+	private int peek() throws IOException {
+		if (!chars.hasRemaining() && !fill()) {
+			return -1;
+		}
+
+		return chars.get(chars.position());
+	}
+
+	private boolean fill() throws IOException {
+		chars.clear();
+
+		while (!decoded) {
+			if (!eof && channel.read(bytes) < 0) {
+				eof = true;
+			}
+
+			bytes.flip();
+			CoderResult result = decoder.decode(bytes, chars, eof);
+			bytes.compact();
+
+			if (result.isError()) {
+				result.throwException();
+			}
+
+			if (eof && result.isUnderflow()) {
+				decoder.flush(chars);
+				decoded = true;
+			}
+
+			if (chars.position() > 0) {
+				break;
+			}
+		}
+
+		chars.flip();
+
+		return chars.hasRemaining();
+	}
+
+}
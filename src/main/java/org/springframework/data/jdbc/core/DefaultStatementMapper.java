@@ -24,10 +24,15 @@ import org.springframework.data.relational.core.query.Criteria;
 import org.springframework.data.relational.core.query.CriteriaDefinition;
 import org.springframework.data.relational.core.query.ExistsCriteria;
 import org.springframework.data.relational.core.query.Query;
+import org.springframework.data.relational.core.sql.Assignment;
 import org.springframework.data.relational.core.sql.Column;
 import org.springframework.data.relational.core.sql.Condition;
+import org.springframework.data.relational.core.sql.Conditions;
+import org.springframework.data.relational.core.sql.Delete;
+import org.springframework.data.relational.core.sql.DeleteBuilder;
 import org.springframework.data.relational.core.sql.ExistsCondition;
 import org.springframework.data.relational.core.sql.Expression;
+import org.springframework.data.relational.core.sql.IdentifierProcessing;
 import org.springframework.data.relational.core.sql.OrderByField;
 import org.springframework.data.relational.core.sql.Select;
 import org.springframework.data.relational.core.sql.SelectBuilder;
@@ -35,6 +40,8 @@ import org.springframework.data.relational.core.sql.SingleLiteral;
 import org.springframework.data.relational.core.sql.SqlIdentifier;
 import org.springframework.data.relational.core.sql.StatementBuilder;
 import org.springframework.data.relational.core.sql.Table;
+import org.springframework.data.relational.core.sql.Update;
+import org.springframework.data.relational.core.sql.UpdateBuilder;
 import org.springframework.data.relational.core.sql.render.RenderContext;
 import org.springframework.data.relational.core.sql.render.SqlRenderer;
 import org.springframework.data.util.Pair;
@@ -93,6 +100,112 @@ public class DefaultStatementMapper implements StatementMapper {
 		return getMappedObject(query, null);
 	}
 
+	@Override
+	public DefaultParametrizedQuery getMappedObject(UpdateSpec updateSpec) {
+		return getMappedObject(updateSpec, null);
+	}
+
+	@Override
+	public DefaultParametrizedQuery getMappedObject(DeleteSpec deleteSpec) {
+		return getMappedObject(deleteSpec, null);
+	}
+
+	private DefaultParametrizedQuery getMappedObject(UpdateSpec updateSpec,
+			@Nullable RelationalPersistentEntity<?> entity) {
+
+		Assert.notNull(entity, "UPDATE requires a typed StatementMapper");
+
+		Table table = updateSpec.getTable();
+		AtomicInteger atomicInteger = new AtomicInteger();
+		MapSqlParameterSource sqlParameterSource = new MapSqlParameterSource();
+
+		List<Assignment> assignments = this.updateMapper.getMappedObject(updateSpec.getUpdate(), table, entity,
+				sqlParameterSource, atomicInteger);
+		UpdateBuilder.UpdateWhere updateBuilder = StatementBuilder.update(table).set(assignments);
+
+		Condition condition = getMappedCondition(updateSpec.getCriteria(), table, entity, sqlParameterSource,
+				atomicInteger);
+		Update update = condition != null ? updateBuilder.where(condition).build() : updateBuilder.build();
+
+		SqlRenderer sqlRenderer = SqlRenderer.create(this.renderContext);
+
+		return new DefaultParametrizedQuery(sqlRenderer.render(update), sqlParameterSource);
+	}
+
+	private DefaultParametrizedQuery getMappedObject(DeleteSpec deleteSpec,
+			@Nullable RelationalPersistentEntity<?> entity) {
+
+		Assert.notNull(entity, "DELETE requires a typed StatementMapper");
+
+		Table table = deleteSpec.getTable();
+		AtomicInteger atomicInteger = new AtomicInteger();
+		MapSqlParameterSource sqlParameterSource = new MapSqlParameterSource();
+
+		DeleteBuilder.DeleteWhere deleteBuilder = StatementBuilder.delete(table);
+
+		Condition condition = getMappedCondition(deleteSpec.getCriteria(), table, entity, sqlParameterSource,
+				atomicInteger);
+		Delete delete = condition != null ? deleteBuilder.where(condition).build() : deleteBuilder.build();
+
+		SqlRenderer sqlRenderer = SqlRenderer.create(this.renderContext);
+
+		return new DefaultParametrizedQuery(sqlRenderer.render(delete), sqlParameterSource);
+	}
+
+	/**
+	 * {@code UPDATE} and {@code DELETE} cannot join, so criteria on relation paths
+	 * are rendered as {@code id IN (SELECT ...)} over the same joins a select
+	 * would use. The subquery is wrapped in a derived table because MySQL rejects
+	 * a subquery on the target table otherwise.
+	 */
+	@Nullable
+	private Condition getMappedCondition(@Nullable CriteriaDefinition criteria, Table table,
+			RelationalPersistentEntity<?> entity, MapSqlParameterSource sqlParameterSource,
+			AtomicInteger atomicInteger) {
+
+		if (criteria == null || criteria.isEmpty()) {
+			return null;
+		}
+
+		if (!hasRelationPath(criteria)) {
+			Pair<Map<String, Table>, Map<String, Class<?>>> pair = Pair.of(new HashMap<String, Table>(),
+					new HashMap<String, Class<?>>());
+
+			return this.updateMapper
+					.getMappedObject(criteria, table, entity, sqlParameterSource, atomicInteger, pair).getCondition();
+		}
+
+		Column idColumn = Column.create(entity.getRequiredIdProperty().getColumnName(), table);
+		SelectSpec selectSpec = SelectSpec.create(entity.getTableName()).withProjection(idColumn)
+				.withCriteria(criteria).distinct();
+
+		DefaultParametrizedQuery subQuery = getMappedObject(selectSpec, entity, sqlParameterSource, atomicInteger);
+
+		return Conditions.in(idColumn, new SingleLiteral("SELECT * FROM (" + subQuery.getQuery() + ") T"));
+	}
+
+	private boolean hasRelationPath(@Nullable CriteriaDefinition criteria) {
+		if (criteria == null || criteria.isEmpty() || criteria instanceof ExistsCriteria) {
+			return false;
+		}
+
+		if (hasRelationPath(criteria.getPrevious())) {
+			return true;
+		}
+
+		if (criteria.isGroup()) {
+			for (CriteriaDefinition group : criteria.getGroup()) {
+				if (hasRelationPath(group)) {
+					return true;
+				}
+			}
+
+			return false;
+		}
+
+		return criteria.getColumn() != null && isPath(criteria.getColumn());
+	}
+
 	private DefaultParametrizedQuery getMappedObject(Query query, @Nullable RelationalPersistentEntity<?> entity) {
 		Table table = Table.create(entity.getTableName());
 		AtomicInteger atomicInteger = new AtomicInteger();
@@ -114,6 +227,10 @@ public class DefaultStatementMapper implements StatementMapper {
 		Map<String, Class<?>> clazzMap = new HashMap<String, Class<?>>();
 		Pair<Map<String, Table>, Map<String, Class<?>>> pair = Pair.of(tableMap, clazzMap);
 
+		for (SqlIdentifier column : query.getColumns()) {
+			resolveProjectedPath(selectBuilder, column, table, entity, tableMap, clazzMap);
+		}
+
 		if (criteria != null && !criteria.isEmpty()) {
 			if (criteria.isGroup()) {
 				CriteriaDefinition previous = criteria.getPrevious();
@@ -172,6 +289,13 @@ public class DefaultStatementMapper implements StatementMapper {
 		Map<String, Class<?>> clazzMap = new HashMap<String, Class<?>>();
 		Pair<Map<String, Table>, Map<String, Class<?>>> pair = Pair.of(tableMap, clazzMap);
 
+		for (Expression expression : selectSpec.getSelectList()) {
+			if (expression instanceof Column) {
+				resolveProjectedPath(selectBuilder, ((Column) expression).getName(), table, entity, tableMap,
+						clazzMap);
+			}
+		}
+
 		if (criteria != null && !criteria.isEmpty()) {
 			if (criteria.isGroup()) {
 				CriteriaDefinition previous = criteria.getPrevious();
@@ -211,7 +335,6 @@ public class DefaultStatementMapper implements StatementMapper {
 		return new DefaultParametrizedQuery(sqlRenderer.render(select), sqlParameterSource);
 	}
 
-	@SuppressWarnings("unused")
 	private DefaultParametrizedQuery getMappedObject(SelectSpec selectSpec,
 			@Nullable RelationalPersistentEntity<?> entity, MapSqlParameterSource sqlParameterSource,
 			AtomicInteger atomicInteger) {
@@ -230,6 +353,13 @@ public class DefaultStatementMapper implements StatementMapper {
 		Map<String, Class<?>> clazzMap = new HashMap<String, Class<?>>();
 		Pair<Map<String, Table>, Map<String, Class<?>>> pair = Pair.of(tableMap, clazzMap);
 
+		for (Expression expression : selectSpec.getSelectList()) {
+			if (expression instanceof Column) {
+				resolveProjectedPath(selectBuilder, ((Column) expression).getName(), table, entity, tableMap,
+						clazzMap);
+			}
+		}
+
 		if (criteria != null && !criteria.isEmpty()) {
 			if (criteria.isGroup()) {
 				CriteriaDefinition previous = criteria.getPrevious();
@@ -269,6 +399,16 @@ public class DefaultStatementMapper implements StatementMapper {
 		return new DefaultParametrizedQuery(sqlRenderer.render(select), sqlParameterSource);
 	}
 
+	private void resolveProjectedPath(SelectBuilder.SelectFromAndJoin selectBuilder, SqlIdentifier column, Table table,
+			@Nullable RelationalPersistentEntity<?> entity, Map<String, Table> tableMap,
+			Map<String, Class<?>> clazzMap) {
+		String path = column.getReference(IdentifierProcessing.NONE);
+
+		if (entity != null && path.indexOf(".") != -1) {
+			updateMapper.resolveColumn(selectBuilder, path, table, entity, tableMap, clazzMap);
+		}
+	}
+
 	private void resolve(SelectBuilder.SelectFromAndJoin selectBuilder, CriteriaDefinition criteria, Table table,
 			@Nullable RelationalPersistentEntity<?> entity, Map<String, Table> tableMap,
 			Map<String, Class<?>> clazzMap) {
@@ -349,6 +489,12 @@ public class DefaultStatementMapper implements StatementMapper {
 		List<Expression> mapped = new ArrayList<>(selectList.size());
 
 		for (Expression expression : selectList) {
+			if (expression instanceof Column && isPath(((Column) expression).getName())) {
+				mapped.add(updateMapper.getMappedPathColumn(
+						((Column) expression).getName().getReference(IdentifierProcessing.NONE), entity));
+				continue;
+			}
+
 			mapped.add(updateMapper.getMappedObject(expression, entity));
 		}
 
@@ -361,7 +507,12 @@ public class DefaultStatementMapper implements StatementMapper {
 
 		if (!CollectionUtils.isEmpty(columns)) {
 			columns.forEach(column -> {
-				columnExpressions.add(Column.create(column, table));
+				if (isPath(column)) {
+					columnExpressions.add(
+							updateMapper.getMappedPathColumn(column.getReference(IdentifierProcessing.NONE), entity));
+				} else {
+					columnExpressions.add(Column.create(column, table));
+				}
 			});
 		} else {
 			Iterator<RelationalPersistentProperty> iterator = entity.iterator();
@@ -406,6 +557,10 @@ public class DefaultStatementMapper implements StatementMapper {
 		return columnExpressions;
 	}
 
+	private boolean isPath(SqlIdentifier column) {
+		return column.getReference(IdentifierProcessing.NONE).indexOf(".") != -1;
+	}
+
 	protected String toSql(SqlIdentifier identifier) {
 
 		Assert.notNull(identifier, "SqlIdentifier must not be null");
@@ -504,6 +659,16 @@ public class DefaultStatementMapper implements StatementMapper {
 			return DefaultStatementMapper.this.getMappedObject(query, this.entity);
 		}
 
+		@Override
+		public DefaultParametrizedQuery getMappedObject(UpdateSpec updateSpec) {
+			return DefaultStatementMapper.this.getMappedObject(updateSpec, this.entity);
+		}
+
+		@Override
+		public DefaultParametrizedQuery getMappedObject(DeleteSpec deleteSpec) {
+			return DefaultStatementMapper.this.getMappedObject(deleteSpec, this.entity);
+		}
+
 		/*
 		 * (non-Javadoc)
 		 * 
@@ -0,0 +1,115 @@
+package org.springframework.data.jdbc.core;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.data.relational.core.mapping.RelationalMappingContext;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+import org.springframework.data.relational.core.sql.SqlIdentifier;
+import org.springframework.lang.Nullable;
+
+/**
+ * Column of an entity's own table: a simple property of the entity or, named
+ * with the embedded prefixes like the {@code SqlGenerator} does, one of an
+ * {@code @Embedded} value.
+ */
+final class EntityColumn {
+
+	private final List<RelationalPersistentProperty> path;
+
+	private final List<RelationalPersistentEntity<?>> owners;
+
+	private final SqlIdentifier columnName;
+
+	private EntityColumn(List<RelationalPersistentProperty> path, List<RelationalPersistentEntity<?>> owners,
+			SqlIdentifier columnName) {
+		this.path = path;
+		this.owners = owners;
+		this.columnName = columnName;
+	}
+
+	/**
+	 * Columns of {@code persistentEntity}, embedded values flattened in place.
+	 *
+	 * @param context
+	 * @param persistentEntity
+	 * @return
+	 */
+	static List<EntityColumn> of(RelationalMappingContext context, RelationalPersistentEntity<?> persistentEntity) {
+		List<EntityColumn> columns = new ArrayList<>();
+
+		collect(context, persistentEntity, "", Collections.emptyList(), Collections.emptyList(), columns);
+
+		return columns;
+	}
+
+	private static void collect(RelationalMappingContext context, RelationalPersistentEntity<?> owner, String prefix,
+			List<RelationalPersistentProperty> parents, List<RelationalPersistentEntity<?>> parentOwners,
+			List<EntityColumn> columns) {
+		for (RelationalPersistentProperty property : owner) {
+			List<RelationalPersistentProperty> path = new ArrayList<>(parents);
+			path.add(property);
+
+			List<RelationalPersistentEntity<?>> owners = new ArrayList<>(parentOwners);
+			owners.add(owner);
+
+			if (property.isEmbedded()) {
+				collect(context, context.getRequiredPersistentEntity(property.getActualType()),
+						prefix + property.getEmbeddedPrefix(), path, owners, columns);
+			} else if (!property.isEntity()) {
+				columns.add(new EntityColumn(path, owners,
+						prefix.isEmpty() ? property.getColumnName()
+								: property.getColumnName().transform(name -> prefix + name)));
+			}
+		}
+	}
+
+	/**
+	 * The property holding the value, the leaf of an embedded path.
+	 */
+	RelationalPersistentProperty getProperty() {
+		return path.get(path.size() - 1);
+	}
+
+	SqlIdentifier getColumnName() {
+		return columnName;
+	}
+
+	/**
+	 * Dotted property path, the property name for a column of the entity itself.
+	 */
+	String getPath() {
+		StringBuilder name = new StringBuilder();
+
+		for (RelationalPersistentProperty property : path) {
+			name.append(name.length() == 0 ? "" : ".").append(property.getName());
+		}
+
+		return name.toString();
+	}
+
+	boolean isIdProperty() {
+		return path.size() == 1 && getProperty().isIdProperty();
+	}
+
+	/**
+	 * Value of the column, {@literal null} below a {@literal null} embedded value.
+	 *
+	 * @param accessor of the entity
+	 * @return
+	 */
+	@Nullable
+	Object getValue(PersistentPropertyAccessor<?> accessor) {
+		Object value = accessor.getProperty(path.get(0));
+
+		for (int i = 1; i < path.size() && value != null; i++) {
+			value = owners.get(i).getPropertyAccessor(value).getProperty(path.get(i));
+		}
+
+		return value;
+	}
+
+}
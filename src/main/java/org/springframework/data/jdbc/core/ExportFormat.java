@@ -0,0 +1,19 @@
+package org.springframework.data.jdbc.core;
+
+/**
+ * 导出文件的格式
+ *
+ */
+public enum ExportFormat {
+
+	/**
+	 * 带表头的CSV，表头为列名
+	 */
+	CSV,
+
+	/**
+	 * 每行一个JSON对象，键为列名
+	 */
+	JSON_LINES
+
+}
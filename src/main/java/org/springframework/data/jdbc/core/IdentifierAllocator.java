@@ -0,0 +1,269 @@
+package org.springframework.data.jdbc.core;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.data.relational.core.dialect.Db2Dialect;
+import org.springframework.data.relational.core.dialect.Dialect;
+import org.springframework.data.relational.core.dialect.HsqlDbDialect;
+import org.springframework.data.relational.core.dialect.OracleDialect;
+import org.springframework.data.relational.core.dialect.PostgresDialect;
+import org.springframework.data.relational.core.mapping.IdGenerator;
+import org.springframework.data.relational.core.mapping.RelationalMappingContext;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.lang.Nullable;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+/**
+ * Client side ids for {@link IdGenerator} properties. Ids are handed out from
+ * blocks reserved in the database, within a block allocation is a single
+ * {@link AtomicLong} increment. Two threads running out of a block at the same
+ * time may both reserve one, the block that loses the race is dropped, which
+ * only leaves a gap.
+ */
+public class IdentifierAllocator {
+
+	private static final String TABLE_UPDATE_SQL_FORMAT = "UPDATE %s SET next_val = next_val + :increment WHERE name = :name";
+
+	private static final String TABLE_INSERT_SQL_FORMAT = "INSERT INTO %s(name, next_val) VALUES(:name, :next)";
+
+	private static final String TABLE_SELECT_SQL_FORMAT = "SELECT next_val FROM %s WHERE name = :name";
+
+	private final RelationalMappingContext context;
+
+	private final Dialect dialect;
+
+	private final NamedParameterJdbcOperations operations;
+
+	private final Map<Class<?>, Optional<BlockAllocator>> allocators = new ConcurrentHashMap<>();
+
+	@Nullable
+	private TransactionTemplate transactionTemplate;
+
+	public IdentifierAllocator(RelationalMappingContext context, Dialect dialect,
+			NamedParameterJdbcOperations operations) {
+		this.context = context;
+		this.dialect = dialect;
+		this.operations = operations;
+	}
+
+	/**
+	 * Transaction manager of the short transactions that reserve blocks in an
+	 * id table. Defaults to a {@link DataSourceTransactionManager} on the
+	 * {@link javax.sql.DataSource} of the operations.
+	 *
+	 * @param transactionManager
+	 */
+	public void setTransactionManager(PlatformTransactionManager transactionManager) {
+		Assert.notNull(transactionManager, "PlatformTransactionManager must not be null");
+		this.transactionTemplate = createTransactionTemplate(new TransactionTemplate(transactionManager));
+	}
+
+	public boolean hasGenerator(Class<?> entityClass) {
+		return getAllocator(entityClass).isPresent();
+	}
+
+	/**
+	 * Assign the next id to {@code instance} if it is new and its id is
+	 * generated.
+	 *
+	 * @param instance
+	 * @return {@code instance} or, for immutable entities, a copy with the id
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> T assignId(T instance) {
+		Optional<BlockAllocator> allocator = getAllocator(instance.getClass());
+
+		if (!allocator.isPresent()) {
+			return instance;
+		}
+
+		RelationalPersistentEntity<?> persistentEntity = context.getRequiredPersistentEntity(instance.getClass());
+		RelationalPersistentProperty idProperty = persistentEntity.getRequiredIdProperty();
+		PersistentPropertyAccessor<T> accessor = (PersistentPropertyAccessor<T>) persistentEntity
+				.getPropertyAccessor(instance);
+
+		if (!persistentEntity.isNew(instance)) {
+			return instance;
+		}
+
+		accessor.setProperty(idProperty,
+				DefaultConversionService.getSharedInstance().convert(allocator.get().next(), idProperty.getType()));
+
+		return accessor.getBean();
+	}
+
+	public long nextId(Class<?> entityClass) {
+		return getAllocator(entityClass)
+				.orElseThrow(() -> new IllegalArgumentException(entityClass + " has no @IdGenerator")).next();
+	}
+
+	private Optional<BlockAllocator> getAllocator(Class<?> entityClass) {
+		return allocators.computeIfAbsent(entityClass, this::createAllocator);
+	}
+
+	private Optional<BlockAllocator> createAllocator(Class<?> entityClass) {
+		RelationalPersistentEntity<?> persistentEntity = context.getPersistentEntity(entityClass);
+
+		if (persistentEntity == null || !persistentEntity.hasIdProperty()) {
+			return Optional.empty();
+		}
+
+		IdGenerator generator = persistentEntity.getRequiredIdProperty().findAnnotation(IdGenerator.class);
+
+		if (generator == null) {
+			return Optional.empty();
+		}
+
+		Assert.isTrue(StringUtils.hasText(generator.sequence()) != StringUtils.hasText(generator.table()),
+				"@IdGenerator requires either a sequence or a table");
+		Assert.isTrue(generator.allocationSize() > 0, "@IdGenerator allocationSize must be greater than 0");
+
+		String name = StringUtils.hasText(generator.name()) ? generator.name()
+				: persistentEntity.getTableName().getReference();
+
+		return Optional.of(new BlockAllocator(generator, name));
+	}
+
+	/**
+	 * Next value of the sequence or the table row, reserving one block.
+	 */
+	private long fetch(IdGenerator generator, String name) {
+		if (StringUtils.hasText(generator.sequence())) {
+			Long value = operations.getJdbcOperations().queryForObject(getSequenceSql(generator.sequence()), Long.class);
+
+			Assert.state(value != null, "Sequence " + generator.sequence() + " returned no value");
+
+			return value;
+		}
+
+		try {
+			return fetchFromTable(generator, name);
+		} catch (DataIntegrityViolationException e) {
+			// another allocator created the row first
+			return fetchFromTable(generator, name);
+		}
+	}
+
+	private long fetchFromTable(IdGenerator generator, String name) {
+		long increment = generator.optimizer() == IdGenerator.Optimizer.POOLED ? generator.allocationSize() : 1;
+
+		// the row lock is only held for this short transaction
+		return getTransactionTemplate().execute(status -> {
+			MapSqlParameterSource ps = new MapSqlParameterSource("name", name).addValue("increment", increment);
+
+			if (operations.update(String.format(TABLE_UPDATE_SQL_FORMAT, generator.table()), ps) == 0) {
+				operations.update(String.format(TABLE_INSERT_SQL_FORMAT, generator.table()),
+						ps.addValue("next", 1 + increment));
+
+				return 1L;
+			}
+
+			Long next = operations.queryForObject(String.format(TABLE_SELECT_SQL_FORMAT, generator.table()), ps,
+					Long.class);
+
+			return next - increment;
+		});
+	}
+
+	private String getSequenceSql(String sequence) {
+		if (dialect instanceof PostgresDialect) {
+			return "SELECT nextval('" + sequence + "')";
+		}
+
+		if (dialect instanceof OracleDialect) {
+			return "SELECT " + sequence + ".NEXTVAL FROM DUAL";
+		}
+
+		if (dialect instanceof Db2Dialect) {
+			return "VALUES NEXT VALUE FOR " + sequence;
+		}
+
+		if (dialect instanceof HsqlDbDialect) {
+			return "CALL NEXT VALUE FOR " + sequence;
+		}
+
+		return "SELECT NEXT VALUE FOR " + sequence;
+	}
+
+	private TransactionTemplate getTransactionTemplate() {
+		if (transactionTemplate == null) {
+			transactionTemplate = createTransactionTemplate(JdbcDeleteExecutor.createTransactionTemplate(operations));
+		}
+
+		return transactionTemplate;
+	}
+
+	private static TransactionTemplate createTransactionTemplate(TransactionTemplate template) {
+		template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+		return template;
+	}
+
+	private class BlockAllocator {
+
+		private final IdGenerator generator;
+
+		private final String name;
+
+		private final AtomicReference<Block> current = new AtomicReference<>(new Block(0, 0));
+
+		BlockAllocator(IdGenerator generator, String name) {
+			this.generator = generator;
+			this.name = name;
+		}
+
+		long next() {
+			Block block = current.get();
+			long id = block.next.getAndIncrement();
+
+			if (id < block.end) {
+				return id;
+			}
+
+			Block reserved = reserve();
+			id = reserved.next.getAndIncrement();
+
+			current.compareAndSet(block, reserved);
+
+			return id;
+		}
+
+		private Block reserve() {
+			long value = fetch(generator, name);
+			long size = generator.allocationSize();
+
+			long start = generator.optimizer() == IdGenerator.Optimizer.HILO ? value * size : value;
+
+			return new Block(start, start + size);
+		}
+
+	}
+
+	private static class Block {
+
+		private final AtomicLong next;
+
+		private final long end;
+
+		Block(long start, long end) {
+			this.next = new AtomicLong(start);
+			this.end = end;
+		}
+
+	}
+
+}
@@ -0,0 +1,16 @@
+package org.springframework.data.jdbc.core;
+
+/**
+ * Rows of an imported file that could not be converted or inserted.
+ */
+@FunctionalInterface
+public interface ImportErrorHandler {
+
+	/**
+	 * @param line   1-based line of the row in the file
+	 * @param values fields of the row
+	 * @param error
+	 */
+	void onError(long line, String[] values, Exception error);
+
+}
@@ -0,0 +1,51 @@
+package org.springframework.data.jdbc.core;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 文件导入的参数，文件为带表头的CSV，表头为属性名或列名
+ *
+ */
+@Getter
+@Builder
+public class ImportOptions {
+
+	/**
+	 * 逐批插入时每批的行数，每批单独提交事务
+	 */
+	@Builder.Default
+	int chunkSize = 1000;
+
+	@Builder.Default
+	Charset charset = StandardCharsets.UTF_8;
+
+	@Builder.Default
+	char delimiter = ',';
+
+	/**
+	 * 是否优先使用数据库自带的批量导入，失败时改为逐批插入
+	 */
+	@Builder.Default
+	boolean fastPath = true;
+
+	/**
+	 * 允许跳过的错误行数，超过时中止导入
+	 */
+	@Builder.Default
+	long maxErrors = 0;
+
+	/**
+	 * 每批提交后的进度回调，可为空
+	 */
+	BulkProgressListener listener;
+
+	/**
+	 * 错误行回调，可为空
+	 */
+	ImportErrorHandler errorHandler;
+
+}
@@ -0,0 +1,32 @@
+package org.springframework.data.jdbc.core;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 流式批量插入的参数
+ *
+ */
+@Getter
+@Builder
+public class IngestOptions {
+
+	/**
+	 * 每个JDBC批次的行数
+	 */
+	@Builder.Default
+	int batchSize = 1000;
+
+	/**
+	 * 每提交一次事务包含的批次数
+	 */
+	@Builder.Default
+	int commitInterval = 10;
+
+	/**
+	 * 转换完成、等待写入的批次数上限，决定内存占用
+	 */
+	@Builder.Default
+	int bufferSize = 4;
+
+}
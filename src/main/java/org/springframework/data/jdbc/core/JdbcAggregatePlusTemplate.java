@@ -2,13 +2,23 @@ package org.springframework.data.jdbc.core;
 
 import java.beans.FeatureDescriptor;
 import java.lang.reflect.Field;
+import java.math.BigInteger;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.ToIntFunction;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 import org.springframework.beans.BeanWrapper;
@@ -16,22 +26,34 @@ import org.springframework.beans.BeanWrapperImpl;
 import org.springframework.beans.BeansException;
 import org.springframework.beans.factory.BeanFactory;
 import org.springframework.beans.factory.BeanFactoryAware;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.context.ApplicationContext;
+import org.springframework.core.ResolvableType;
 import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.convert.support.DefaultConversionService;
 import org.springframework.dao.IncorrectResultSizeDataAccessException;
+import org.springframework.dao.support.DataAccessUtils;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jdbc.core.convert.CompiledEntityRowMapper;
 import org.springframework.data.jdbc.core.convert.DataAccessStrategy;
-import org.springframework.data.jdbc.core.convert.EntityRowMapper;
+import org.springframework.data.jdbc.core.convert.EntityRowMapperFactory;
 import org.springframework.data.jdbc.core.convert.JdbcConverter;
 import org.springframework.data.jdbc.repository.query.DefaultParametrizedQuery;
 import org.springframework.data.jdbc.repository.query.UpdateMapper;
+import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.data.mapping.PropertyHandler;
 import org.springframework.data.projection.ProjectionInformation;
 import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.data.relational.core.conversion.MutableAggregateChange;
 import org.springframework.data.relational.core.dialect.Dialect;
 import org.springframework.data.relational.core.dialect.RenderContextFactory;
+import org.springframework.data.relational.core.mapping.AppendOnly;
+import org.springframework.data.relational.core.mapping.IdGenerator;
+import org.springframework.data.relational.core.mapping.LazyColumn;
 import org.springframework.data.relational.core.mapping.ManyToMany;
 import org.springframework.data.relational.core.mapping.ManyToOne;
 import org.springframework.data.relational.core.mapping.NamingStrategy;
@@ -39,18 +61,43 @@ import org.springframework.data.relational.core.mapping.OneToMany;
 import org.springframework.data.relational.core.mapping.RelationalMappingContext;
 import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
 import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+import org.springframework.data.relational.core.mapping.event.AfterDeleteBatchEvent;
+import org.springframework.data.relational.core.query.Criteria;
 import org.springframework.data.relational.core.query.CriteriaDefinition;
+import org.springframework.data.relational.core.query.Increment;
 import org.springframework.data.relational.core.query.Query;
+import org.springframework.data.relational.core.query.Update;
+import org.springframework.data.relational.core.sql.Column;
+import org.springframework.data.relational.core.sql.Condition;
+import org.springframework.data.relational.core.sql.Conditions;
+import org.springframework.data.relational.core.sql.Delete;
 import org.springframework.data.relational.core.sql.Expression;
 import org.springframework.data.relational.core.sql.Functions;
+import org.springframework.data.relational.core.sql.SQL;
+import org.springframework.data.relational.core.sql.SimpleFunction;
+import org.springframework.data.relational.core.sql.Select;
 import org.springframework.data.relational.core.sql.SqlIdentifier;
+import org.springframework.data.relational.core.sql.StatementBuilder;
 import org.springframework.data.relational.core.sql.Table;
 import org.springframework.data.relational.core.sql.render.RenderContext;
+import org.springframework.data.relational.core.sql.render.SqlRenderer;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.RowMapperResultSetExtractor;
+import org.springframework.jdbc.core.SingleColumnRowMapper;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
 import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.lang.Nullable;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
 import org.springframework.util.CollectionUtils;
+import org.springframework.util.ReflectionUtils;
 import org.springframework.util.StringUtils;
 
 /**
@@ -59,10 +106,12 @@ import org.springframework.util.StringUtils;
  *
  */
 public class JdbcAggregatePlusTemplate extends JdbcAggregateTemplate
-		implements JdbcAggregateOperations, BeanFactoryAware {
+		implements JdbcAggregateOperations, BeanFactoryAware, DisposableBean {
 
 	private final RelationalMappingContext context;
 
+	private final Dialect dialect;
+
 	private final SpelAwareProxyProjectionFactory projectionFactory;
 
 	private final UpdateMapper updateMapper;
@@ -71,6 +120,46 @@ public class JdbcAggregatePlusTemplate extends JdbcAggregateTemplate
 
 	private final JdbcConverter converter;
 
+	private final EntityRowMapperFactory entityRowMapperFactory;
+
+	private final JdbcDeleteExecutor deleteExecutor;
+
+	private final JdbcUpsertExecutor upsertExecutor;
+
+	private final JdbcPartialUpdateExecutor partialUpdateExecutor;
+
+	private final LazyColumnTracker lazyColumnTracker;
+
+	private final JdbcInsertExecutor insertExecutor;
+
+	private final IdentifierAllocator identifierAllocator;
+
+	private final JdbcStreamInsertExecutor streamInsertExecutor;
+
+	private final JdbcScanExecutor scanExecutor;
+
+	private final JdbcParallelScanExecutor parallelScanExecutor;
+
+	private final JdbcStreamQueryExecutor streamQueryExecutor;
+
+	private boolean dirtyTrackingEnabled = false;
+
+	private boolean writeBehindEnabled = false;
+
+	private AppendOptions appendOptions = AppendOptions.builder().build();
+
+	@Nullable
+	private ParallelConversionOptions parallelConversionOptions;
+
+	@Nullable
+	private volatile JdbcAppendWriter appendWriter;
+
+	@Nullable
+	private TransactionTemplate transactionTemplate;
+
+	@Nullable
+	private TransactionTemplate chunkTransactionTemplate;
+
 	public JdbcAggregatePlusTemplate(ApplicationContext publisher, RelationalMappingContext context,
 			JdbcConverter converter, DataAccessStrategy dataAccessStrategy, Dialect dialect,
 			NamedParameterJdbcOperations operations) {
@@ -80,10 +169,25 @@ public class JdbcAggregatePlusTemplate extends JdbcAggregateTemplate
 		RenderContext renderContext = factory.createRenderContext();
 
 		this.context = context;
+		this.dialect = dialect;
 		this.converter = converter;
 		this.projectionFactory = new SpelAwareProxyProjectionFactory();
 		this.updateMapper = new UpdateMapper(dialect, converter, context);
 		this.statementMapper = new DefaultStatementMapper(dialect, renderContext, this.updateMapper, context);
+		this.entityRowMapperFactory = EntityRowMapperFactory.getShared(converter, context);
+		this.deleteExecutor = new JdbcDeleteExecutor(context, this.statementMapper, operations);
+		this.lazyColumnTracker = new LazyColumnTracker();
+		this.upsertExecutor = new JdbcUpsertExecutor(context, converter, dialect, operations,
+				this.lazyColumnTracker);
+		this.partialUpdateExecutor = new JdbcPartialUpdateExecutor(context, converter, dialect, operations,
+				this.lazyColumnTracker);
+		this.insertExecutor = new JdbcInsertExecutor(context, converter, dialect, operations);
+		this.identifierAllocator = new IdentifierAllocator(context, dialect, operations);
+		this.streamInsertExecutor = new JdbcStreamInsertExecutor(this.insertExecutor, this.identifierAllocator,
+				operations);
+		this.scanExecutor = new JdbcScanExecutor(dialect, operations);
+		this.parallelScanExecutor = new JdbcParallelScanExecutor(dialect, operations);
+		this.streamQueryExecutor = new JdbcStreamQueryExecutor(dialect, operations);
 
 		super.setOperations(operations);
 	}
@@ -91,12 +195,923 @@ public class JdbcAggregatePlusTemplate extends JdbcAggregateTemplate
 	@Override
 	public void setBeanFactory(BeanFactory beanFactory) throws BeansException {
 		this.projectionFactory.setBeanFactory(beanFactory);
+
+		if (transactionTemplate == null) {
+			PlatformTransactionManager transactionManager = beanFactory
+					.getBeanProvider(PlatformTransactionManager.class).getIfUnique();
+
+			if (transactionManager != null) {
+				setTransactionManager(transactionManager);
+			}
+		}
+	}
+
+	/**
+	 * Write what is still queued for {@link #append(Object)}.
+	 */
+	@Override
+	public void destroy() {
+		JdbcAppendWriter writer = appendWriter;
+
+		if (writer != null) {
+			writer.close();
+		}
+	}
+
+	/**
+	 * Options of the writer behind {@link #append(Object)}, to be set before the
+	 * first append.
+	 *
+	 * @param appendOptions
+	 */
+	public void setAppendOptions(AppendOptions appendOptions) {
+		Assert.notNull(appendOptions, "AppendOptions must not be null");
+		Assert.state(appendWriter == null, "Append writer is already running");
+		this.appendOptions = appendOptions;
+	}
+
+	/**
+	 * Queue {@code instance} of an {@link AppendOnly} type for an asynchronous
+	 * batched insert and return without waiting for the database. The insert
+	 * runs outside the caller's transaction, a failed batch is logged and
+	 * reported to the {@link AppendFlushListener}. When the queue stays full the
+	 * entity is inserted right away in a transaction of its own and a failure is
+	 * thrown to the caller.
+	 *
+	 * @param instance
+	 * @see JdbcAppendWriter
+	 */
+	public <T> void append(T instance) {
+		Assert.notNull(instance, "Aggregate instance must not be null!");
+		Assert.isTrue(AnnotatedElementUtils.hasAnnotation(instance.getClass(), AppendOnly.class),
+				instance.getClass() + " is not @AppendOnly");
+
+		getAppendWriter().append(instance);
+	}
+
+	/**
+	 * @return the writer behind {@link #append(Object)}, for its queue depth and
+	 *         flush latency.
+	 */
+	public JdbcAppendWriter getAppendWriter() {
+		JdbcAppendWriter writer = appendWriter;
+
+		if (writer == null) {
+			synchronized (this) {
+				writer = appendWriter;
+
+				if (writer == null) {
+					// a caller writing its own entity must not join its transaction
+					writer = new JdbcAppendWriter(batch -> getChunkTransactionTemplate().execute(status -> insertAll(batch)),
+							appendOptions);
+					appendWriter = writer;
+				}
+			}
+		}
+
+		return writer;
+	}
+
+	/**
+	 * Convert the rows of {@code findList}, {@code findAll(Query, Class)},
+	 * {@code findPage} and {@code findStream} into entities on a
+	 * {@link java.util.concurrent.ForkJoinPool} while the query thread keeps
+	 * reading. Pays off for wide entities and large results, the order of the
+	 * results is kept. Applies to DTO projections and entities with a compiled
+	 * row mapper only, entities mapped by {@code EntityRowMapper} load their
+	 * relations and stay on the query thread.
+	 *
+	 * @param parallelConversionOptions {@literal null} to convert on the query
+	 *                                  thread
+	 * @see JdbcStreamQueryExecutor
+	 */
+	public void setParallelConversionOptions(@Nullable ParallelConversionOptions parallelConversionOptions) {
+		this.parallelConversionOptions = parallelConversionOptions;
+	}
+
+	/**
+	 * Keep a snapshot of the columns of loaded and saved entities, so that saving
+	 * an existing entity updates only the changed columns and issues no
+	 * {@code UPDATE} at all if nothing changed. Snapshots are kept for the
+	 * transaction the entity was read or saved in and dropped by the bulk writes
+	 * of this template and the derived deletes of repositories, so only entities
+	 * read and saved in the same Spring managed transaction are tracked.
+	 *
+	 * @param dirtyTrackingEnabled
+	 * @see JdbcPartialUpdateExecutor
+	 */
+	public void setDirtyTrackingEnabled(boolean dirtyTrackingEnabled) {
+		this.dirtyTrackingEnabled = dirtyTrackingEnabled;
+	}
+
+	/**
+	 * Drop the dirty tracking snapshots of {@code entityClass} in the current
+	 * transaction, after its rows were written without this template, e.g. by a
+	 * derived {@code deleteBy} method.
+	 *
+	 * @param entityClass
+	 */
+	public void forgetSnapshots(Class<?> entityClass) {
+		partialUpdateExecutor.forgetAll(entityClass);
+	}
+
+	/**
+	 * Queue saves and deletes made inside a Spring managed transaction in a
+	 * {@link JdbcUnitOfWork} bound to it instead of writing them right away. The
+	 * queue is written in JDBC batches before commit, on {@link #flush()}, and
+	 * before any query or bulk write of this template or a repository method
+	 * runs, since a join or a relation may reach any queued table. New
+	 * entities without {@link IdGenerator} need their generated key and are
+	 * still inserted immediately.
+	 * <p>
+	 * Queued deletes publish an {@link AfterDeleteBatchEvent} per type instead
+	 * of the events of a single delete. Repositories flush the queue only if
+	 * write-behind is enabled when they are created.
+	 *
+	 * @param writeBehindEnabled
+	 */
+	public void setWriteBehindEnabled(boolean writeBehindEnabled) {
+		this.writeBehindEnabled = writeBehindEnabled;
+	}
+
+	public boolean isWriteBehindEnabled() {
+		return writeBehindEnabled;
+	}
+
+	/**
+	 * Write the operations queued in the unit of work of the current
+	 * transaction: inserts and updates with parents before children, then
+	 * deletes with children before parents.
+	 */
+	public void flush() {
+		JdbcUnitOfWork unitOfWork = getUnitOfWork(false);
+
+		if (unitOfWork == null || unitOfWork.isEmpty()) {
+			return;
+		}
+
+		List<Object> inserts = unitOfWork.getInserts();
+		Map<Class<?>, List<Object>> updates = unitOfWork.getUpdates();
+		Map<Class<?>, List<Object>> deletes = unitOfWork.getDeletes();
+
+		unitOfWork.clear();
+		unitOfWork.setFlushing(true);
+
+		try {
+			if (!inserts.isEmpty()) {
+				insertAll(inserts);
+			}
+
+			updates.forEach((entityClass, group) -> {
+				if (partialUpdateExecutor.isTrackable(entityClass)) {
+					doUpdateAll(group, dirtyTrackingEnabled);
+				} else {
+					group.forEach(this::save);
+				}
+			});
+
+			deletes.forEach((entityClass, ids) -> {
+				deleteAllById(ids, entityClass);
+				ids.forEach(id -> partialUpdateExecutor.forget(entityClass, id));
+			});
+		} finally {
+			unitOfWork.setFlushing(false);
+		}
 	}
 
 	@Override
 	public <T> T save(T instance) {
-		T entity = super.save(instance);
-		Field[] fields = instance.getClass().getDeclaredFields();
+		JdbcUnitOfWork unitOfWork = getUnitOfWork(true);
+
+		if (unitOfWork != null) {
+			T queued = enqueueSave(unitOfWork, instance);
+
+			if (queued != null) {
+				return queued;
+			}
+
+			// the row is written now, earlier queued rows it may refer to first
+			flush();
+		}
+
+		T entity;
+
+		if ((dirtyTrackingEnabled && partialUpdateExecutor.isTracked(instance)) || hasUnfetchedLazyColumns(instance)) {
+			T converted = triggerBeforeConvert(instance);
+			MutableAggregateChange<T> change = MutableAggregateChange.forSave(converted);
+
+			entity = triggerBeforeSave(converted, change);
+			partialUpdateExecutor.updateAll(Collections.singletonList(entity), dirtyTrackingEnabled);
+			entity = triggerAfterSave(entity, change);
+		} else if (identifierAllocator.hasGenerator(instance.getClass())
+				&& getRequiredEntity(instance.getClass()).isNew(instance)) {
+			entity = insert(instance);
+
+			if (dirtyTrackingEnabled) {
+				partialUpdateExecutor.snapshot(entity);
+			}
+		} else {
+			entity = super.save(instance);
+
+			if (dirtyTrackingEnabled) {
+				partialUpdateExecutor.snapshot(entity);
+			}
+		}
+
+		saveManyToMany(entity);
+		saveOneToMany(entity);
+
+		return entity;
+	}
+
+	/**
+	 * Insert {@code instance}, assigning its id first if the id property has an
+	 * {@link IdGenerator}.
+	 */
+	@Override
+	public <T> T insert(T instance) {
+		flush();
+
+		return super.insert(identifierAllocator.assignId(instance));
+	}
+
+	/**
+	 * Insert {@code instances} with plain JDBC batches, one per entity type. Ids
+	 * of {@link IdGenerator} properties are assigned client side. Instances
+	 * without id and generator need the database generated key and are inserted
+	 * one by one.
+	 *
+	 * @param instances
+	 * @return inserted instances in the order given
+	 */
+	public <T> List<T> insertAll(Iterable<T> instances) {
+		Assert.notNull(instances, "Aggregate instances must not be null!");
+
+		return getTransactionTemplate().execute(status -> {
+			List<T> result = new ArrayList<T>();
+			List<T> batched = new ArrayList<T>();
+			List<MutableAggregateChange<T>> changes = new ArrayList<MutableAggregateChange<T>>();
+			List<Integer> positions = new ArrayList<Integer>();
+
+			for (T instance : instances) {
+				if (!identifierAllocator.hasGenerator(instance.getClass())
+						&& getRequiredEntity(instance.getClass()).isNew(instance)) {
+					result.add(insert(instance));
+					continue;
+				}
+
+				T converted = identifierAllocator.assignId(triggerBeforeConvert(instance));
+				MutableAggregateChange<T> change = MutableAggregateChange.forSave(converted);
+
+				batched.add(triggerBeforeSave(converted, change));
+				changes.add(change);
+				positions.add(result.size());
+				result.add(null);
+			}
+
+			Map<Class<?>, List<T>> byType = batched.stream()
+					.collect(Collectors.groupingBy(Object::getClass, LinkedHashMap::new, Collectors.toList()));
+
+			byType.forEach((entityClass, group) -> insertExecutor.insertAll(group, entityClass));
+
+			for (int i = 0; i < batched.size(); i++) {
+				T entity = triggerAfterSave(batched.get(i), changes.get(i));
+
+				saveManyToMany(entity);
+				saveOneToMany(entity);
+
+				if (dirtyTrackingEnabled) {
+					partialUpdateExecutor.snapshot(entity);
+				}
+
+				result.set(positions.get(i), entity);
+			}
+
+			return result;
+		});
+	}
+
+	public <T> long insertAll(Stream<T> instances) {
+		return insertAll(instances, IngestOptions.builder().build());
+	}
+
+	public <T> long insertAll(Stream<T> instances, IngestOptions options) {
+		Assert.notNull(instances, "Aggregate instances must not be null!");
+
+		return insertAll(instances.iterator(), options);
+	}
+
+	/**
+	 * Insert {@code instances} with memory bounded by {@code options}: the calling
+	 * thread converts the entities while a writer thread executes the JDBC
+	 * batches on its own connection and commits every
+	 * {@link IngestOptions#getCommitInterval()} batches. Ids must be assigned or
+	 * come from an {@link IdGenerator}. No lifecycle events are published and
+	 * relations are not written.
+	 *
+	 * @param instances
+	 * @param options
+	 * @return number of inserted rows
+	 * @see JdbcStreamInsertExecutor
+	 */
+	public <T> long insertAll(Iterator<T> instances, IngestOptions options) {
+		Assert.notNull(instances, "Aggregate instances must not be null!");
+		Assert.notNull(options, "IngestOptions must not be null");
+
+		return streamInsertExecutor.insertAll(instances, options);
+	}
+
+	public <T> long forEach(Query query, Class<T> entityClass, Consumer<? super T> action) {
+		return forEach(query, entityClass, 1, action);
+	}
+
+	/**
+	 * Stream the rows matching {@code query} through a ring of {@code instances}
+	 * reused entities: each row overwrites the columns of the next instance of
+	 * the ring, so {@code action} must not keep an instance longer than the
+	 * following {@code instances - 1} rows. Use a ring larger than one to hand
+	 * instances to a pipelined consumer.
+	 * <p>
+	 * The entity needs a no-argument constructor and non-final fields. No
+	 * lifecycle events are published, relations and {@link LazyColumn}s are not
+	 * loaded and instances are not dirty tracked.
+	 *
+	 * @param query
+	 * @param entityClass
+	 * @param instances   size of the ring
+	 * @param action
+	 * @return number of rows
+	 * @see JdbcScanExecutor
+	 */
+	public <T> long forEach(Query query, Class<T> entityClass, int instances, Consumer<? super T> action) {
+		Assert.notNull(action, "Action must not be null");
+
+		CompiledEntityRowMapper<T> rowMapper = entityRowMapperFactory.getScanRowMapper(entityClass);
+
+		Assert.isTrue(rowMapper != null, () -> entityClass.getName()
+				+ " cannot be reused for forEach, it needs a no-argument constructor and non-final fields");
+
+		SqlIdentifier tableName = query.getTable() != null ? query.getTable() : getTableName(entityClass);
+		DefaultParametrizedQuery operation = getSelectOperation(query, entityClass, tableName, entityClass);
+
+		// PostgreSQL streams a cursor only inside a transaction
+		return getTransactionTemplate().execute(status -> scanExecutor.forEach(operation.getQuery(),
+				operation.getParameterSource(), rowMapper, instances, action));
+	}
+
+	public <T> long findParallel(Query query, Class<T> entityClass, int partitions, Consumer<List<T>> consumer) {
+		return findParallel(query, entityClass, ParallelScanOptions.builder().partitions(partitions).build(), consumer);
+	}
+
+	/**
+	 * Read the entities matching {@code query} with concurrent queries over
+	 * disjoint ranges of the partition property, each on a connection of its own.
+	 * The ranges split the minimum to maximum value of the matching rows into
+	 * {@link ParallelScanOptions#getPartitions()} ranges of equal width, rows
+	 * where a partition property other than the id is {@code NULL} are read by
+	 * one more partition.
+	 * <p>
+	 * {@code consumer} is called concurrently from the partition threads with
+	 * chunks of {@link ParallelScanOptions#getChunkSize()} entities and must be
+	 * thread safe. Sort order applies within a partition only, limit and offset
+	 * are not supported.
+	 *
+	 * @param query
+	 * @param entityClass
+	 * @param options
+	 * @param consumer
+	 * @return number of entities read
+	 * @see JdbcParallelScanExecutor
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> long findParallel(Query query, Class<T> entityClass, ParallelScanOptions options,
+			Consumer<List<T>> consumer) {
+		Assert.notNull(options, "ParallelScanOptions must not be null");
+		Assert.notNull(consumer, "Consumer must not be null");
+		Assert.isTrue(options.getPartitions() > 0, "Partitions must be greater than 0");
+		Assert.isTrue(options.getChunkSize() > 0, "Chunk size must be greater than 0");
+		Assert.isTrue(query.getLimit() <= 0 && query.getOffset() <= 0,
+				"Parallel scans do not support limit and offset");
+
+		RelationalPersistentEntity<?> persistentEntity = getRequiredEntity(entityClass);
+		RelationalPersistentProperty partitionProperty = options.getPartitionProperty() == null
+				? persistentEntity.getRequiredIdProperty()
+				: persistentEntity.getRequiredPersistentProperty(options.getPartitionProperty());
+		Class<?> partitionType = ClassUtils.resolvePrimitiveIfNecessary(partitionProperty.getActualType());
+
+		Assert.isTrue(Long.class == partitionType || Integer.class == partitionType || Short.class == partitionType,
+				() -> "Partition property " + partitionProperty.getName() + " is not integral");
+
+		SqlIdentifier tableName = query.getTable() != null ? query.getTable() : getTableName(entityClass);
+		List<DefaultParametrizedQuery> partitions = new ArrayList<DefaultParametrizedQuery>();
+
+		for (Criteria criteria : getPartitionCriteria(query, entityClass, tableName, partitionProperty,
+				options.getPartitions())) {
+			partitions.add(getSelectOperation(withCriteria(query, criteria), entityClass, tableName, entityClass));
+		}
+
+		Consumer<Object> unfetched = trackUnfetchedLazyColumns(query, entityClass);
+
+		return parallelScanExecutor.scan(partitions, () -> (RowMapper<T>) getEntityRowMapper(entityClass),
+				options.getChunkSize(), options.getExecutor(), getTransactionTemplate(), chunk -> {
+					chunk.forEach(unfetched);
+
+					if (dirtyTrackingEnabled) {
+						partialUpdateExecutor.snapshotAll(chunk);
+					}
+
+					consumer.accept(chunk);
+				});
+	}
+
+	public <T> PageIterator<T> findPages(Query query, Class<T> entityClass, int pageSize) {
+		return findPages(query, entityClass, PageIteratorOptions.builder().pageSize(pageSize).build());
+	}
+
+	/**
+	 * Read the entities matching {@code query} page by page while the following
+	 * {@link PageIteratorOptions#getPrefetch()} pages are fetched on a background
+	 * thread. An unsorted query, or one sorted by the id only and ascending, is
+	 * paged by keyset: each page continues after the largest id of the previous
+	 * one, so pages stay cheap however deep the iteration goes. Other sort orders
+	 * page by offset.
+	 * <p>
+	 * Pages are read outside the transaction of the caller, each by a query of
+	 * its own. Close the iterator to stop reading ahead before the last page.
+	 *
+	 * @param query       without limit and offset
+	 * @param entityClass
+	 * @param options
+	 * @return pages of {@link PageIteratorOptions#getPageSize()} entities, the
+	 *         last one may be shorter
+	 * @see PageIterator
+	 */
+	public <T> PageIterator<T> findPages(Query query, Class<T> entityClass, PageIteratorOptions options) {
+		Assert.notNull(options, "PageIteratorOptions must not be null");
+		Assert.isTrue(options.getPageSize() > 0, "Page size must be greater than 0");
+		Assert.isTrue(options.getPrefetch() > 0, "Prefetch must be greater than 0");
+		Assert.isTrue(query.getLimit() <= 0 && query.getOffset() <= 0,
+				"Page iteration does not support limit and offset");
+
+		RelationalPersistentEntity<?> persistentEntity = getRequiredEntity(entityClass);
+		RelationalPersistentProperty idProperty = persistentEntity.getRequiredIdProperty();
+		SqlIdentifier tableName = query.getTable() != null ? query.getTable() : getTableName(entityClass);
+		int pageSize = options.getPageSize();
+
+		// the read ahead thread does not see the unit of work of the caller
+		flush();
+
+		Sort sort = query.getSort();
+		Sort.Order idOrder = sort.getOrderFor(idProperty.getName());
+		boolean keyset = sort.isUnsorted() || (sort.stream().count() == 1 && idOrder != null && idOrder.isAscending());
+
+		if (keyset) {
+			Query first = query.sort(Sort.by(idProperty.getName())).limit(pageSize);
+
+			return new PageIterator<T>(previous -> {
+				if (previous == null) {
+					return (List<T>) doFind(first, entityClass, tableName, entityClass);
+				}
+
+				Object lastId = persistentEntity.getIdentifierAccessor(previous.get(previous.size() - 1))
+						.getRequiredIdentifier();
+
+				Query next = withCriteria(first, Criteria.where(idProperty.getName()).greaterThan(lastId));
+
+				return (List<T>) doFind(next.limit(pageSize), entityClass, tableName, entityClass);
+			}, pageSize, options.getPrefetch(), options.getExecutor());
+		}
+
+		long[] offset = new long[1];
+
+		return new PageIterator<T>(previous -> {
+			Query page = query.offset(offset[0]).limit(pageSize);
+			offset[0] += pageSize;
+
+			return (List<T>) doFind(page, entityClass, tableName, entityClass);
+		}, pageSize, options.getPrefetch(), options.getExecutor());
+	}
+
+	/**
+	 * {@code query} with {@code criteria} added to its own criteria.
+	 */
+	private static Query withCriteria(Query query, Criteria criteria) {
+		Criteria combined = query.getCriteria().filter(c -> !c.isEmpty()).map(criteria::and).orElse(criteria);
+		Query result = Query.query(combined).columns(query.getColumns().toArray(new SqlIdentifier[0]))
+				.sort(query.getSort());
+
+		return query.getTable() != null ? result.table(query.getTable()) : result;
+	}
+
+	/**
+	 * Ranges of equal width between the minimum and maximum of
+	 * {@code partitionProperty} in the rows matching {@code query}. The first
+	 * range is open below and the last open above, so rows added meanwhile are
+	 * not missed.
+	 */
+	private List<Criteria> getPartitionCriteria(Query query, Class<?> entityClass, SqlIdentifier tableName,
+			RelationalPersistentProperty partitionProperty, int partitions) {
+		StatementMapper statementMapper = this.statementMapper.forType(entityClass);
+		SqlIdentifier columnName = partitionProperty.getColumnName();
+
+		flush();
+
+		StatementMapper.SelectSpec selectSpec = statementMapper //
+				.createSelect(tableName) //
+				.doWithTable((table, spec) -> spec.withProjection(Arrays.asList(
+						SimpleFunction.create("MIN", Collections.singletonList(table.column(columnName))),
+						SimpleFunction.create("MAX", Collections.singletonList(table.column(columnName))))));
+
+		Optional<CriteriaDefinition> criteria = query.getCriteria();
+		if (criteria.isPresent()) {
+			selectSpec = criteria.map(selectSpec::withCriteria).orElse(selectSpec);
+		}
+
+		DefaultParametrizedQuery operation = statementMapper.getMappedObject(selectSpec);
+		long[] range = getOperations().queryForObject(operation.getQuery(), operation.getParameterSource(),
+				(rs, rowNum) -> {
+					long min = rs.getLong(1);
+					return rs.wasNull() ? null : new long[] { min, rs.getLong(2) };
+				});
+
+		String property = partitionProperty.getName();
+		List<Criteria> result = new ArrayList<Criteria>();
+
+		if (range != null) {
+			// max - min may exceed a long
+			BigInteger max = BigInteger.valueOf(range[1]);
+			BigInteger step = max.subtract(BigInteger.valueOf(range[0])).divide(BigInteger.valueOf(partitions))
+					.add(BigInteger.ONE);
+			List<Long> bounds = new ArrayList<Long>();
+
+			for (BigInteger bound = BigInteger.valueOf(range[0]).add(step); bound.compareTo(max) <= 0; bound = bound
+					.add(step)) {
+				bounds.add(bound.longValue());
+			}
+
+			if (bounds.isEmpty()) {
+				result.add(Criteria.where(property).isNotNull());
+			} else {
+				result.add(Criteria.where(property).lessThan(bounds.get(0)));
+
+				for (int i = 1; i < bounds.size(); i++) {
+					result.add(Criteria.where(property).greaterThanOrEquals(bounds.get(i - 1)).and(property)
+							.lessThan(bounds.get(i)));
+				}
+
+				result.add(Criteria.where(property).greaterThanOrEquals(bounds.get(bounds.size() - 1)));
+			}
+		}
+
+		if (!partitionProperty.isIdProperty()) {
+			result.add(Criteria.where(property).isNull());
+		}
+
+		return result;
+	}
+
+	/**
+	 * Save {@code instances}. With dirty tracking enabled the partial updates of
+	 * tracked entities are grouped into one JDBC batch per set of changed
+	 * columns.
+	 *
+	 * @param instances
+	 * @return saved instances in the order given
+	 */
+	public <T> List<T> saveAll(Iterable<T> instances) {
+		Assert.notNull(instances, "Aggregate instances must not be null!");
+
+		return getTransactionTemplate().execute(status -> {
+			List<T> result = new ArrayList<T>();
+			List<T> tracked = new ArrayList<T>();
+			List<Integer> positions = new ArrayList<Integer>();
+
+			for (T instance : instances) {
+				if (dirtyTrackingEnabled && getUnitOfWork(false) == null && partialUpdateExecutor.isTracked(instance)) {
+					tracked.add(instance);
+					positions.add(result.size());
+					result.add(null);
+				} else {
+					result.add(save(instance));
+				}
+			}
+
+			List<T> updated = doUpdateAll(tracked, true);
+
+			for (int i = 0; i < updated.size(); i++) {
+				result.set(positions.get(i), updated.get(i));
+			}
+
+			return result;
+		});
+	}
+
+	/**
+	 * Update existing {@code instances} of trackable types through the
+	 * {@link JdbcPartialUpdateExecutor}, with the lifecycle callbacks and events
+	 * of a save.
+	 */
+	private <T> List<T> doUpdateAll(List<T> instances, boolean keepSnapshots) {
+		List<T> converted = new ArrayList<T>();
+		List<MutableAggregateChange<T>> changes = new ArrayList<MutableAggregateChange<T>>();
+
+		for (T instance : instances) {
+			T entity = triggerBeforeConvert(instance);
+			MutableAggregateChange<T> change = MutableAggregateChange.forSave(entity);
+
+			converted.add(triggerBeforeSave(entity, change));
+			changes.add(change);
+		}
+
+		partialUpdateExecutor.updateAll(converted, keepSnapshots);
+
+		List<T> result = new ArrayList<T>();
+
+		for (int i = 0; i < converted.size(); i++) {
+			T entity = triggerAfterSave(converted.get(i), changes.get(i));
+
+			saveManyToMany(entity);
+			saveOneToMany(entity);
+			result.add(entity);
+		}
+
+		return result;
+	}
+
+	/**
+	 * Queue {@code instance} in {@code unitOfWork}.
+	 *
+	 * @return the queued instance, {@literal null} if it has to be written now.
+	 */
+	@Nullable
+	private <T> T enqueueSave(JdbcUnitOfWork unitOfWork, T instance) {
+		RelationalPersistentEntity<?> persistentEntity = getRequiredEntity(instance.getClass());
+		boolean isNew = persistentEntity.isNew(instance);
+
+		if (isNew && !identifierAllocator.hasGenerator(instance.getClass())) {
+			return null;
+		}
+
+		T entity = identifierAllocator.assignId(instance);
+		Object id = persistentEntity.getIdentifierAccessor(entity).getRequiredIdentifier();
+
+		if (!register(unitOfWork, entity, id, isNew)) {
+			// saved again after a queued delete, keep the order of the two
+			flush();
+			register(unitOfWork, entity, id, isNew);
+		}
+
+		return entity;
+	}
+
+	private boolean register(JdbcUnitOfWork unitOfWork, Object entity, Object id, boolean isNew) {
+		SqlIdentifier tableName = getTableName(entity.getClass());
+
+		return isNew ? unitOfWork.registerInsert(entity, id, tableName)
+				: unitOfWork.registerUpdate(entity, id, tableName);
+	}
+
+	@Override
+	public <S> void delete(S aggregateRoot, Class<S> domainType) {
+		Object id = getRequiredEntity(domainType).getIdentifierAccessor(aggregateRoot).getRequiredIdentifier();
+		JdbcUnitOfWork unitOfWork = getUnitOfWork(true);
+
+		if (unitOfWork != null) {
+			unitOfWork.registerDelete(domainType, id, getTableName(domainType));
+			return;
+		}
+
+		super.delete(aggregateRoot, domainType);
+
+		partialUpdateExecutor.forget(domainType, id);
+	}
+
+	@Override
+	public <S> void deleteById(Object id, Class<S> domainType) {
+		JdbcUnitOfWork unitOfWork = getUnitOfWork(true);
+
+		if (unitOfWork != null) {
+			unitOfWork.registerDelete(domainType, id, getTableName(domainType));
+			return;
+		}
+
+		super.deleteById(id, domainType);
+
+		partialUpdateExecutor.forget(domainType, id);
+	}
+
+	@Override
+	public <T> void deleteAllById(Iterable<?> ids, Class<T> domainType) {
+		flush();
+
+		super.deleteAllById(ids, domainType);
+	}
+
+	@Override
+	public void deleteAll(Class<?> domainType) {
+		flush();
+		partialUpdateExecutor.forgetAll(domainType);
+
+		super.deleteAll(domainType);
+	}
+
+	@Override
+	public long count(Class<?> domainType) {
+		flush();
+
+		return super.count(domainType);
+	}
+
+	@Override
+	public <T> T findById(Object id, Class<T> domainType) {
+		flush();
+
+		return super.findById(id, domainType);
+	}
+
+	@Override
+	public <T> boolean existsById(Object id, Class<T> domainType) {
+		flush();
+
+		return super.existsById(id, domainType);
+	}
+
+	@Override
+	public <T> Iterable<T> findAll(Class<T> domainType, Sort sort) {
+		flush();
+
+		return super.findAll(domainType, sort);
+	}
+
+	@Override
+	public <T> Page<T> findAll(Class<T> domainType, Pageable pageable) {
+		flush();
+
+		return super.findAll(domainType, pageable);
+	}
+
+	@Override
+	public <T> Iterable<T> findAll(Class<T> domainType) {
+		flush();
+
+		return super.findAll(domainType);
+	}
+
+	@Override
+	public <T> Iterable<T> findAllById(Iterable<?> ids, Class<T> domainType) {
+		flush();
+
+		return super.findAllById(ids, domainType);
+	}
+
+	@Override
+	protected <T> T triggerAfterLoad(T entity) {
+		T loaded = super.triggerAfterLoad(entity);
+
+		if (dirtyTrackingEnabled) {
+			partialUpdateExecutor.snapshot(loaded);
+		}
+
+		return loaded;
+	}
+
+	@Override
+	protected <T> Iterable<T> triggerAfterLoad(Iterable<T> all) {
+		Iterable<T> loaded = super.triggerAfterLoad(all);
+
+		if (dirtyTrackingEnabled) {
+			partialUpdateExecutor.snapshotAll(loaded);
+		}
+
+		return loaded;
+	}
+
+	/**
+	 * Write the children of the {@link OneToMany#cascade()} collections of
+	 * {@code entity}: the foreign key taken from {@link ManyToOne#property()} of
+	 * the {@code mappedBy} field is set on every child, children no longer in
+	 * the collection are removed with a single {@code DELETE}, children whose id
+	 * is stored for {@code entity} are updated and all others inserted, in JDBC
+	 * batches where possible. No
+	 * events are published for the children and their own relations are not
+	 * cascaded.
+	 */
+	private <T> void saveOneToMany(T entity) {
+		Object id = null;
+
+		for (Field field : entity.getClass().getDeclaredFields()) {
+			OneToMany otm = AnnotatedElementUtils.findMergedAnnotation(field, OneToMany.class);
+
+			if (otm == null || !otm.cascade()) {
+				continue;
+			}
+
+			ReflectionUtils.makeAccessible(field);
+			Collection<?> children = (Collection<?>) ReflectionUtils.getField(field, entity);
+
+			if (children == null) {
+				continue;
+			}
+
+			if (id == null) {
+				id = getRequiredEntity(entity.getClass()).getIdentifierAccessor(entity).getRequiredIdentifier();
+			}
+
+			Class<?> childClass = ResolvableType.forField(field).asCollection().resolveGeneric(0);
+			Field mappedBy = StringUtils.hasText(otm.mappedBy()) ? ReflectionUtils.findField(childClass, otm.mappedBy())
+					: null;
+			ManyToOne mto = mappedBy == null ? null
+					: AnnotatedElementUtils.findMergedAnnotation(mappedBy, ManyToOne.class);
+
+			if (mto == null) {
+				throw new IllegalStateException("Cascading " + field + " requires mappedBy to name a @ManyToOne field");
+			}
+
+			RelationalPersistentEntity<?> childEntity = getRequiredEntity(childClass);
+			RelationalPersistentProperty fkProperty = childEntity.getRequiredPersistentProperty(mto.property());
+			Object fk = DefaultConversionService.getSharedInstance().convert(id, fkProperty.getType());
+
+			Set<Object> existing = new HashSet<Object>(findChildIds(childEntity, fkProperty, fk));
+			List<Object> inserts = new ArrayList<Object>();
+			List<Object> updates = new ArrayList<Object>();
+			List<Object> ids = new ArrayList<Object>();
+
+			for (Object child : children) {
+				childEntity.getPropertyAccessor(child).setProperty(fkProperty, fk);
+
+				// an assigned id does not make a child stored, the ids of the stored ones tell
+				Object childId = childEntity.isNew(child) ? null
+						: childEntity.getIdentifierAccessor(child).getRequiredIdentifier();
+
+				if (childId != null && existing.contains(childId)) {
+					updates.add(child);
+					ids.add(childId);
+				} else {
+					inserts.add(identifierAllocator.assignId(child));
+				}
+			}
+
+			deleteOrphans(childEntity, fkProperty, fk, ids);
+
+			if (partialUpdateExecutor.isTrackable(childClass)) {
+				partialUpdateExecutor.updateAll(updates, dirtyTrackingEnabled);
+			} else {
+				updates.forEach(super::update);
+			}
+
+			List<Object> batch = new ArrayList<Object>();
+
+			for (Object child : inserts) {
+				if (childEntity.isNew(child)) {
+					super.insert(child);
+				} else {
+					batch.add(child);
+				}
+			}
+
+			if (!batch.isEmpty()) {
+				insertExecutor.insertAll(batch, childClass);
+			}
+		}
+	}
+
+	private List<?> findChildIds(RelationalPersistentEntity<?> childEntity, RelationalPersistentProperty fkProperty,
+			Object fk) {
+		Table table = Table.create(childEntity.getTableName());
+		RelationalPersistentProperty idProperty = childEntity.getRequiredIdProperty();
+
+		Select select = StatementBuilder.select(table.column(idProperty.getColumnName())).from(table)
+				.where(table.column(fkProperty.getColumnName()).isEqualTo(SQL.bindMarker(":fk"))).build();
+
+		return getOperations().queryForList(SqlRenderer.create(statementMapper.getRenderContext()).render(select),
+				new MapSqlParameterSource("fk", fk), ClassUtils.resolvePrimitiveIfNecessary(idProperty.getType()));
+	}
+
+	private void deleteOrphans(RelationalPersistentEntity<?> childEntity, RelationalPersistentProperty fkProperty,
+			Object fk, List<Object> ids) {
+		Table table = Table.create(childEntity.getTableName());
+		Condition condition = table.column(fkProperty.getColumnName()).isEqualTo(SQL.bindMarker(":fk"));
+
+		MapSqlParameterSource ps = new MapSqlParameterSource("fk", fk);
+
+		if (!ids.isEmpty()) {
+			// Conditions.notIn() loses the NOT here, Column.notIn() does not
+			condition = condition.and(
+					table.column(childEntity.getRequiredIdProperty().getColumnName()).notIn(SQL.bindMarker(":ids")));
+			ps.addValue("ids", ids);
+		}
+
+		Delete delete = StatementBuilder.delete(table).where(condition).build();
+
+		getOperations().update(SqlRenderer.create(statementMapper.getRenderContext()).render(delete), ps);
+	}
+
+	/**
+	 * Replace the rows of the {@link ManyToMany} join tables owned by
+	 * {@code entity}.
+	 */
+	private <T> void saveManyToMany(T entity) {
+		Field[] fields = entity.getClass().getDeclaredFields();
 		RelationalPersistentEntity<?> persistentEntity = context.getRequiredPersistentEntity(entity.getClass());
 
 		Object id = null;
@@ -163,10 +1178,291 @@ public class JdbcAggregatePlusTemplate extends JdbcAggregateTemplate
 				}
 			}
 		}
+	}
+
+	/**
+	 * Load {@link LazyColumn} properties of entities that were fetched without
+	 * them, using one {@code IN} query per chunk of ids. Without
+	 * {@code properties} every lazy column of {@code entityClass} is loaded.
+	 *
+	 * @param entities
+	 * @param entityClass
+	 * @param properties
+	 * @return
+	 */
+	public <T> List<T> fetchLazyColumns(List<T> entities, Class<T> entityClass, String... properties) {
+		if (CollectionUtils.isEmpty(entities)) {
+			return entities;
+		}
+
+		RelationalPersistentEntity<?> persistentEntity = getRequiredEntity(entityClass);
+		RelationalPersistentProperty idProperty = persistentEntity.getRequiredIdProperty();
+		List<RelationalPersistentProperty> lazyProperties = getLazyProperties(persistentEntity, properties);
+
+		if (lazyProperties.isEmpty()) {
+			return entities;
+		}
+
+		Table table = Table.create(persistentEntity.getTableName());
+		Column idColumn = table.column(idProperty.getColumnName());
+		List<Expression> columns = new ArrayList<Expression>();
+		columns.add(idColumn);
+		lazyProperties.forEach(lazyProperty -> columns.add(table.column(lazyProperty.getColumnName())));
+
+		Select select = StatementBuilder.select(columns).from(table)
+				.where(Conditions.in(idColumn, SQL.bindMarker(":ids"))).build();
+		String sql = SqlRenderer.create(statementMapper.getRenderContext()).render(select);
+
+		Map<Object, List<PersistentPropertyAccessor<?>>> accessors = new LinkedHashMap<>();
+
+		for (T entity : entities) {
+			PersistentPropertyAccessor<?> accessor = persistentEntity.getPropertyAccessor(entity);
+			Object id = accessor.getProperty(idProperty);
+
+			if (id != null) {
+				accessors.computeIfAbsent(id, key -> new ArrayList<>(1)).add(accessor);
+			}
+		}
+
+		List<Object> ids = new ArrayList<Object>(accessors.keySet());
+
+		for (int i = 0; i < ids.size(); i += JdbcDeleteExecutor.IN_CLAUSE_CHUNK_SIZE) {
+			MapSqlParameterSource ps = new MapSqlParameterSource("ids",
+					ids.subList(i, Math.min(i + JdbcDeleteExecutor.IN_CLAUSE_CHUNK_SIZE, ids.size())));
+
+			getOperations().query(sql, ps, (RowCallbackHandler) rs -> {
+				Object id = converter.readValue(rs.getObject(1), idProperty.getTypeInformation());
+				List<PersistentPropertyAccessor<?>> targets = accessors.get(id);
+
+				if (targets == null) {
+					return;
+				}
+
+				for (int j = 0; j < lazyProperties.size(); j++) {
+					RelationalPersistentProperty lazyProperty = lazyProperties.get(j);
+					Object value = converter.readValue(rs.getObject(j + 2), lazyProperty.getTypeInformation());
+
+					for (PersistentPropertyAccessor<?> accessor : targets) {
+						accessor.setProperty(lazyProperty, value);
+					}
+				}
+			});
+		}
+
+		for (T entity : entities) {
+			lazyColumnTracker.fetched(entity, lazyProperties);
+		}
+
+		return entities;
+	}
 
+	@SuppressWarnings("unchecked")
+	public <T> T fetchLazyColumns(T entity, String... properties) {
+		fetchLazyColumns(Collections.singletonList(entity), (Class<T>) entity.getClass(), properties);
 		return entity;
 	}
 
+	/**
+	 * Update all rows matching {@code query} with a single {@code UPDATE}.
+	 * Criteria on relation paths are supported, values wrapped in
+	 * {@link Increment} are applied atomically as {@code col = col + ?}. No
+	 * entity is loaded and no lifecycle event is published.
+	 *
+	 * @param query
+	 * @param update
+	 * @param entityClass
+	 * @return number of updated rows
+	 */
+	public int update(Query query, Update update, Class<?> entityClass) {
+		SqlIdentifier tableName = query.getTable() != null ? query.getTable() : getTableName(entityClass);
+		StatementMapper statementMapper = this.statementMapper.forType(entityClass);
+
+		flush();
+		partialUpdateExecutor.forgetAll(entityClass);
+
+		StatementMapper.UpdateSpec updateSpec = statementMapper.createUpdate(tableName, update);
+		updateSpec = query.getCriteria().map(updateSpec::withCriteria).orElse(updateSpec);
+
+		DefaultParametrizedQuery operation = statementMapper.getMappedObject(updateSpec);
+
+		return getOperations().update(operation.getQuery(), operation.getParameterSource());
+	}
+
+	/**
+	 * Delete all rows matching {@code query} with a single {@code DELETE}, after
+	 * removing their {@link ManyToMany} join rows in the same transaction. No
+	 * entity is loaded and no lifecycle event is published.
+	 *
+	 * @param query
+	 * @param entityClass
+	 * @return number of deleted rows
+	 */
+	public int delete(Query query, Class<?> entityClass) {
+		SqlIdentifier tableName = query.getTable() != null ? query.getTable() : getTableName(entityClass);
+
+		flush();
+
+		return getTransactionTemplate().execute(
+				status -> deleteExecutor.delete(query.getCriteria().orElse(null), entityClass, tableName));
+	}
+
+	/**
+	 * Insert {@code instance}, or update it when a row with its id exists, in a
+	 * single dialect specific statement. The id must be assigned. Unlike
+	 * {@link #save(Object)} no lifecycle events are published and
+	 * {@link ManyToMany} relations are not written. Lazy columns the instance
+	 * was read without are kept while it holds {@literal null} for them.
+	 * <p>
+	 * The version of a {@code @Version} entity tells whether it is new, such an
+	 * entity is {@link #save(Object) saved} with its optimistic locking instead.
+	 *
+	 * @param instance
+	 * @return {@code instance}, the saved one if it has a version
+	 */
+	public <T> T upsert(T instance) {
+		Assert.notNull(instance, "Aggregate instance must not be null!");
+
+		if (getRequiredEntity(instance.getClass()).hasVersionProperty()) {
+			return save(instance);
+		}
+
+		flush();
+		upsertExecutor.upsert(instance);
+		afterUpsert(instance);
+
+		return instance;
+	}
+
+	/**
+	 * Batched {@link #upsert(Object)}, one JDBC batch per entity type and set of
+	 * kept lazy columns.
+	 *
+	 * @param instances
+	 * @return {@code instances}, with the saved ones in place of entities having a
+	 *         version
+	 */
+	public <T> List<T> upsertAll(Iterable<T> instances) {
+		Assert.notNull(instances, "Aggregate instances must not be null!");
+
+		List<T> list = StreamSupport.stream(instances.spliterator(), false).collect(Collectors.toList());
+
+		Map<Class<?>, List<T>> byType = list.stream()
+				.collect(Collectors.groupingBy(Object::getClass, LinkedHashMap::new, Collectors.toList()));
+
+		flush();
+
+		return getTransactionTemplate().execute(status -> {
+			Map<T, T> saved = new IdentityHashMap<>();
+
+			byType.forEach((entityClass, group) -> {
+				if (getRequiredEntity(entityClass).hasVersionProperty()) {
+					group.forEach(instance -> saved.put(instance, save(instance)));
+				} else {
+					upsertExecutor.upsertAll(group, entityClass);
+					group.forEach(this::afterUpsert);
+				}
+			});
+
+			return saved.isEmpty() ? list
+					: list.stream().map(instance -> saved.getOrDefault(instance, instance)).collect(Collectors.toList());
+		});
+	}
+
+	/**
+	 * The row of an upserted {@code instance} holds its values now, except the
+	 * omitted lazy columns.
+	 */
+	private void afterUpsert(Object instance) {
+		RelationalPersistentEntity<?> persistentEntity = getRequiredEntity(instance.getClass());
+		PersistentPropertyAccessor<?> accessor = persistentEntity.getPropertyAccessor(instance);
+		List<RelationalPersistentProperty> written = new ArrayList<RelationalPersistentProperty>();
+
+		for (RelationalPersistentProperty lazyProperty : lazyColumnTracker.getUnfetched(instance)) {
+			if (accessor.getProperty(lazyProperty) != null) {
+				written.add(lazyProperty);
+			}
+		}
+
+		lazyColumnTracker.fetched(instance, written);
+
+		if (dirtyTrackingEnabled) {
+			partialUpdateExecutor.snapshot(instance);
+		} else {
+			partialUpdateExecutor.forget(instance.getClass(),
+					accessor.getProperty(persistentEntity.getRequiredIdProperty()));
+		}
+	}
+
+	@Override
+	protected int doDeleteAllById(List<Object> ids, Class<?> domainType) {
+		return getTransactionTemplate().execute(status -> super.doDeleteAllById(ids, domainType));
+	}
+
+	@Override
+	protected JdbcDeleteExecutor getDeleteExecutor() {
+		return deleteExecutor;
+	}
+
+	/**
+	 * Delete the rows matching {@code query} in chunks of {@code chunkSize} ids,
+	 * each chunk with its join rows in its own transaction, so that locks and
+	 * undo stay bounded.
+	 *
+	 * @param query
+	 * @param entityClass
+	 * @param chunkSize
+	 * @return number of deleted rows
+	 */
+	public long deleteInChunks(Query query, Class<?> entityClass, int chunkSize) {
+		return deleteInChunks(query, entityClass, BulkOptions.ofChunkSize(chunkSize));
+	}
+
+	public long deleteInChunks(Query query, Class<?> entityClass, BulkOptions options) {
+		SqlIdentifier tableName = query.getTable() != null ? query.getTable() : getTableName(entityClass);
+
+		return doInChunks(query, entityClass, tableName, options,
+				ids -> deleteExecutor.deleteByIds(ids, entityClass, tableName));
+	}
+
+	/**
+	 * Chunked counterpart of {@link #update(Query, Update, Class)}.
+	 *
+	 * @param query
+	 * @param update
+	 * @param entityClass
+	 * @param chunkSize
+	 * @return number of updated rows
+	 */
+	public long updateInChunks(Query query, Update update, Class<?> entityClass, int chunkSize) {
+		return updateInChunks(query, update, entityClass, BulkOptions.ofChunkSize(chunkSize));
+	}
+
+	public long updateInChunks(Query query, Update update, Class<?> entityClass, BulkOptions options) {
+		SqlIdentifier tableName = query.getTable() != null ? query.getTable() : getTableName(entityClass);
+		String idProperty = getRequiredEntity(entityClass).getRequiredIdProperty().getName();
+
+		// the chunks run in transactions of their own
+		partialUpdateExecutor.forgetAll(entityClass);
+
+		return doInChunks(query, entityClass, tableName, options,
+				ids -> update(Query.query(Criteria.where(idProperty).in(ids)).table(tableName), update, entityClass));
+	}
+
+	/**
+	 * Transaction manager used by the set based and bulk operations. Defaults to the
+	 * unique {@link PlatformTransactionManager} of the bean factory, else a
+	 * {@link DataSourceTransactionManager} on the {@link DataSource} of the
+	 * operations, which joins an existing transaction on that data source.
+	 *
+	 * @param transactionManager
+	 */
+	public void setTransactionManager(PlatformTransactionManager transactionManager) {
+		Assert.notNull(transactionManager, "PlatformTransactionManager must not be null");
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.chunkTransactionTemplate = null;
+		this.identifierAllocator.setTransactionManager(transactionManager);
+	}
+
 	public Long count(Query query, Class<?> entityClass) {
 		return doCount(query, entityClass, getTableName(entityClass));
 	}
@@ -181,12 +1477,31 @@ public class JdbcAggregatePlusTemplate extends JdbcAggregateTemplate
 		return StreamSupport.stream(items.spliterator(), false).collect(Collectors.toList());
 	}
 
+	/**
+	 * Find entities of {@code entityClass} and map each row into {@code returnType}.
+	 * For a DTO class only the columns named by its constructor are selected, see
+	 * {@link org.springframework.data.relational.core.mapping.ProjectionPath}.
+	 *
+	 * @param query
+	 * @param entityClass
+	 * @param returnType
+	 * @return
+	 */
+	public <T> List<T> findList(Query query, Class<?> entityClass, Class<T> returnType) {
+		Iterable<T> items = doFind(query, entityClass, getTableName(entityClass), returnType);
+		return StreamSupport.stream(items.spliterator(), false).collect(Collectors.toList());
+	}
+
 	public <T> Iterable<T> findAll(Query query, Class<T> entityClass) {
 		return doFind(query, entityClass, getTableName(entityClass), entityClass);
 	}
 
 	public <T> T findOne(Query query, Class<T> entityClass) {
-		Iterable<T> items = doFind(query.limit(2), entityClass, getTableName(entityClass), entityClass);
+		return findOne(query, entityClass, entityClass);
+	}
+
+	public <T> T findOne(Query query, Class<?> entityClass, Class<T> returnType) {
+		Iterable<T> items = doFind(query.limit(2), entityClass, getTableName(entityClass), returnType);
 
 		List<T> list = StreamSupport.stream(items.spliterator(), false).collect(Collectors.toList());
 
@@ -205,6 +1520,10 @@ public class JdbcAggregatePlusTemplate extends JdbcAggregateTemplate
 	}
 
 	public <T> Page<T> findPage(Query query, Class<T> entityClass) {
+		return findPage(query, entityClass, entityClass);
+	}
+
+	public <T> Page<T> findPage(Query query, Class<?> entityClass, Class<T> returnType) {
 		SqlIdentifier tableName = getTableName(entityClass);
 		long totalCount = doCount(query, entityClass, tableName);
 
@@ -216,37 +1535,86 @@ public class JdbcAggregatePlusTemplate extends JdbcAggregateTemplate
 			return new PageImpl<T>(Collections.emptyList(), pageable, totalCount);
 		}
 
-		Iterable<T> items = doFind(query, entityClass, tableName, entityClass);
+		Iterable<T> items = doFind(query, entityClass, tableName, returnType);
 
 		return new PageImpl<T>(StreamSupport.stream(items.spliterator(), false).collect(Collectors.toList()), pageable,
 				totalCount);
 	}
 
-	@SuppressWarnings("unchecked")
-	<T> Iterable<T> doFind(Query query, Class<?> entityClass, SqlIdentifier tableName, Class<T> returnType) {
-		if (CollectionUtils.isEmpty(query.getColumns())) {
-			RelationalPersistentEntity<?> relationalPersistentEntity = getRequiredEntity(entityClass);
+	public <T> Stream<T> findStream(Query query, Class<T> entityClass) {
+		return findStream(query, entityClass, entityClass);
+	}
 
-			List<String> columns = new ArrayList<String>();
-			Iterator<RelationalPersistentProperty> iterator = relationalPersistentEntity.iterator();
+	/**
+	 * Stream the rows matching {@code query} mapped into {@code returnType},
+	 * read lazily from a cursor with a fetch size. The stream holds a connection
+	 * until it is closed, PostgreSQL streams only inside a transaction.
+	 *
+	 * @param query
+	 * @param entityClass
+	 * @param returnType
+	 * @return stream to be closed
+	 * @see #setParallelConversionOptions(ParallelConversionOptions)
+	 */
+	public <T> Stream<T> findStream(Query query, Class<?> entityClass, Class<T> returnType) {
+		boolean dtoProjection = entityRowMapperFactory.isDtoProjection(returnType, entityClass);
+
+		DefaultParametrizedQuery operation = getSelectOperation(query, entityClass, getTableName(entityClass),
+				returnType);
+
+		Stream<T> stream = streamQueryExecutor.stream(operation.getQuery(), operation.getParameterSource(),
+				() -> getRowMapper(entityClass, returnType), getParallelConversionOptions(entityClass, returnType));
+
+		if (dtoProjection) {
+			return stream;
+		}
 
-			while (iterator.hasNext()) {
-				RelationalPersistentProperty persistentProperty = iterator.next();
+		stream = stream.peek(trackUnfetchedLazyColumns(query, entityClass));
 
-				persistentProperty.isAnnotationPresent(ManyToOne.class);
+		return dirtyTrackingEnabled ? stream.peek(partialUpdateExecutor::snapshot) : stream;
+	}
 
-				if (persistentProperty.isEntity() || persistentProperty.isAnnotationPresent(ManyToOne.class)
-						|| persistentProperty.isAnnotationPresent(OneToMany.class)
-						|| persistentProperty.isAnnotationPresent(ManyToMany.class)) {
-					continue;
-				}
+	<T> Iterable<T> doFind(Query query, Class<?> entityClass, SqlIdentifier tableName, Class<T> returnType) {
+		boolean dtoProjection = entityRowMapperFactory.isDtoProjection(returnType, entityClass);
 
-				String property = persistentProperty.getName();
+		DefaultParametrizedQuery operation = getSelectOperation(query, entityClass, tableName, returnType);
 
-				columns.add(property);
+		String sql = operation.getQuery();
+		ParallelConversionOptions conversionOptions = getParallelConversionOptions(entityClass, returnType);
+		List<T> result;
+
+		if (conversionOptions == null) {
+			result = JdbcAsyncExecutor.query(getOperations(), sql, operation.getParameterSource(),
+					new RowMapperResultSetExtractor<>(getRowMapper(entityClass, returnType)));
+		} else {
+			try (Stream<T> stream = streamQueryExecutor.stream(sql, operation.getParameterSource(),
+					() -> getRowMapper(entityClass, returnType), conversionOptions)) {
+				result = stream.collect(Collectors.toList());
 			}
+		}
+
+		if (!dtoProjection) {
+			result.forEach(trackUnfetchedLazyColumns(query, entityClass));
+		}
 
-			query = query.columns(columns);
+		if (dirtyTrackingEnabled && !dtoProjection) {
+			partialUpdateExecutor.snapshotAll(result);
+		}
+
+		return result;
+	}
+
+	/**
+	 * The mapped {@code SELECT} of {@code query}. Without explicit columns it
+	 * selects the columns of a DTO {@code returnType}, otherwise the eagerly
+	 * loaded columns of the entity.
+	 */
+	DefaultParametrizedQuery getSelectOperation(Query query, Class<?> entityClass, SqlIdentifier tableName,
+			Class<?> returnType) {
+		if (CollectionUtils.isEmpty(query.getColumns())) {
+			query = query.columns(entityRowMapperFactory.isDtoProjection(returnType, entityClass)
+					? entityRowMapperFactory.getDtoProjection(returnType, entityClass).getPaths()
+					: getEagerProperties(entityClass));
 		}
 
 		Query q = query;
@@ -255,6 +1623,8 @@ public class JdbcAggregatePlusTemplate extends JdbcAggregateTemplate
 			tableName = q.getTable();
 		}
 
+		flush();
+
 		StatementMapper statementMapper = this.statementMapper.forType(entityClass);
 
 		StatementMapper.SelectSpec selectSpec = statementMapper //
@@ -278,11 +1648,33 @@ public class JdbcAggregatePlusTemplate extends JdbcAggregateTemplate
 			selectSpec = criteria.map(selectSpec::withCriteria).orElse(selectSpec);
 		}
 
-		DefaultParametrizedQuery operation = statementMapper.getMappedObject(selectSpec);
+		return statementMapper.getMappedObject(selectSpec);
+	}
 
-		String sql = operation.getQuery();
-		return getOperations().query(sql, operation.getParameterSource(),
-				(RowMapper<T>) getEntityRowMapper(returnType));
+	/**
+	 * Properties named by the columns of {@code query}, the eagerly loaded ones
+	 * if it has none.
+	 */
+	List<String> getSelectedProperties(Query query, Class<?> entityClass) {
+		return CollectionUtils.isEmpty(query.getColumns()) ? getEagerProperties(entityClass)
+				: query.getColumns().stream().map(SqlIdentifier::getReference).collect(Collectors.toList());
+	}
+
+	/**
+	 * Properties selected by default: no relations and no {@link LazyColumn}.
+	 */
+	private List<String> getEagerProperties(Class<?> entityClass) {
+		List<String> columns = new ArrayList<String>();
+
+		for (RelationalPersistentProperty persistentProperty : getRequiredEntity(entityClass)) {
+			if (persistentProperty.isEntity() || persistentProperty.isAnnotationPresent(LazyColumn.class)) {
+				continue;
+			}
+
+			columns.add(persistentProperty.getName());
+		}
+
+		return columns;
 	}
 
 	<T> Long doCount(Query query, Class<?> entityClass, SqlIdentifier tableName) {
@@ -293,6 +1685,8 @@ public class JdbcAggregatePlusTemplate extends JdbcAggregateTemplate
 			tableName = query.getTable();
 		}
 
+		flush();
+
 		StatementMapper.SelectSpec selectSpec = statementMapper //
 				.createSelect(tableName) //
 				.doWithTable((table, spec) -> {
@@ -308,22 +1702,229 @@ public class JdbcAggregatePlusTemplate extends JdbcAggregateTemplate
 		DefaultParametrizedQuery operation = statementMapper.getMappedObject(selectSpec);
 
 		String sql = operation.getQuery();
-		return getOperations().queryForObject(sql, operation.getParameterSource(), Long.class);
+		List<Long> count = JdbcAsyncExecutor.query(getOperations(), sql, operation.getParameterSource(),
+				new RowMapperResultSetExtractor<>(SingleColumnRowMapper.newInstance(Long.class), 1));
+
+		return DataAccessUtils.requiredSingleResult(count);
 	}
 
 	SqlIdentifier getTableName(Class<?> entityClass) {
 		return getRequiredEntity(entityClass).getTableName();
 	}
 
-	private RelationalPersistentEntity<?> getRequiredEntity(Class<?> entityClass) {
+	RelationalPersistentEntity<?> getRequiredEntity(Class<?> entityClass) {
 		return this.context.getRequiredPersistentEntity(entityClass);
 	}
 
-	private EntityRowMapper<?> getEntityRowMapper(Class<?> domainType) {
-		return new EntityRowMapper<>(getRequiredEntity(domainType), converter);
+	RelationalMappingContext getMappingContext() {
+		return context;
+	}
+
+	JdbcConverter getConverter() {
+		return converter;
+	}
+
+	Dialect getDialect() {
+		return dialect;
+	}
+
+	StatementMapper getStatementMapper() {
+		return statementMapper;
+	}
+
+	IdentifierAllocator getIdentifierAllocator() {
+		return identifierAllocator;
+	}
+
+	void forgetSnapshot(Class<?> entityClass, Object id) {
+		partialUpdateExecutor.forget(entityClass, id);
+	}
+
+	private List<RelationalPersistentProperty> getLazyProperties(RelationalPersistentEntity<?> persistentEntity,
+			String... properties) {
+		List<RelationalPersistentProperty> lazyProperties = new ArrayList<RelationalPersistentProperty>();
+
+		if (properties.length > 0) {
+			for (String property : properties) {
+				lazyProperties.add(persistentEntity.getRequiredPersistentProperty(property));
+			}
+		} else {
+			persistentEntity.doWithProperties((PropertyHandler<RelationalPersistentProperty>) persistentProperty -> {
+				if (persistentProperty.isAnnotationPresent(LazyColumn.class)) {
+					lazyProperties.add(persistentProperty);
+				}
+			});
+		}
+
+		return lazyProperties;
+	}
+
+	/**
+	 * Whether {@code instance} was read without lazy columns it still holds
+	 * {@literal null} for. Such an instance is updated without those columns, so
+	 * that saving it does not wipe the stored values.
+	 */
+	private boolean hasUnfetchedLazyColumns(Object instance) {
+		RelationalPersistentEntity<?> persistentEntity = getRequiredEntity(instance.getClass());
+		PersistentPropertyAccessor<?> accessor = persistentEntity.getPropertyAccessor(instance);
+
+		for (RelationalPersistentProperty lazyProperty : lazyColumnTracker.getUnfetched(instance)) {
+			if (accessor.getProperty(lazyProperty) == null) {
+				Assert.state(partialUpdateExecutor.isTrackable(instance.getClass()), () -> "Lazy column "
+						+ lazyProperty.getName() + " of " + instance.getClass().getName()
+						+ " was not fetched, fetch it before saving an entity with @Version or nested entities");
+
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * Remember the lazy columns {@code query} does not select for the entities
+	 * read by it.
+	 */
+	private Consumer<Object> trackUnfetchedLazyColumns(Query query, Class<?> entityClass) {
+		List<RelationalPersistentProperty> unfetched = new ArrayList<RelationalPersistentProperty>();
+		List<String> selected = getSelectedProperties(query, entityClass);
+
+		for (RelationalPersistentProperty lazyProperty : getLazyProperties(getRequiredEntity(entityClass))) {
+			if (!selected.contains(lazyProperty.getName())) {
+				unfetched.add(lazyProperty);
+			}
+		}
+
+		return entity -> lazyColumnTracker.unfetched(entity, unfetched);
+	}
+
+	/**
+	 * Select the next chunk of matching ids in key order and apply
+	 * {@code action} to it in a new transaction, until no ids are left. An
+	 * interrupt during the pause stops after the last committed chunk.
+	 */
+	private long doInChunks(Query query, Class<?> entityClass, SqlIdentifier tableName, BulkOptions options,
+			ToIntFunction<List<Object>> action) {
+		Assert.isTrue(options.getChunkSize() > 0, "Chunk size must be greater than 0");
+
+		flush();
+
+		CriteriaDefinition criteria = query.getCriteria().orElse(null);
+		TransactionTemplate transactionTemplate = getChunkTransactionTemplate();
+		BulkProgressListener listener = options.getListener();
+
+		Object after = null;
+		long total = 0;
+		int chunk = 0;
+
+		while (true) {
+			List<Object> ids = deleteExecutor.getNextIds(criteria, after, options.getChunkSize(), entityClass,
+					tableName);
+
+			if (ids.isEmpty()) {
+				break;
+			}
+
+			int affected = transactionTemplate.execute(status -> action.applyAsInt(ids));
+			total += affected;
+			chunk++;
+
+			if (listener != null) {
+				listener.onChunk(chunk, affected, total);
+			}
+
+			if (ids.size() < options.getChunkSize()) {
+				break;
+			}
+
+			after = ids.get(ids.size() - 1);
+
+			if (options.getPauseMillis() > 0) {
+				try {
+					Thread.sleep(options.getPauseMillis());
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					break;
+				}
+			}
+		}
+
+		return total;
+	}
+
+	/**
+	 * The unit of work bound to the current transaction, {@literal null} if
+	 * write-behind is disabled, there is no transaction or the unit of work is
+	 * being flushed.
+	 */
+	@Nullable
+	private JdbcUnitOfWork getUnitOfWork(boolean create) {
+		if (!writeBehindEnabled || !TransactionSynchronizationManager.isActualTransactionActive()) {
+			return null;
+		}
+
+		JdbcUnitOfWork unitOfWork = (JdbcUnitOfWork) TransactionSynchronizationManager.getResource(this);
+
+		if (unitOfWork == null) {
+			if (!create || !TransactionSynchronizationManager.isSynchronizationActive()) {
+				return null;
+			}
+
+			unitOfWork = new JdbcUnitOfWork();
+
+			TransactionSynchronizationManager.bindResource(this, unitOfWork);
+			TransactionSynchronizationManager.registerSynchronization(new UnitOfWorkSynchronization(unitOfWork));
+		}
+
+		return unitOfWork.isFlushing() ? null : unitOfWork;
+	}
+
+	TransactionTemplate getChunkTransactionTemplate() {
+		if (chunkTransactionTemplate == null) {
+			TransactionTemplate transactionTemplate = new TransactionTemplate(
+					getTransactionTemplate().getTransactionManager());
+			transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+			chunkTransactionTemplate = transactionTemplate;
+		}
+
+		return chunkTransactionTemplate;
+	}
+
+	protected TransactionTemplate getTransactionTemplate() {
+		if (transactionTemplate == null) {
+			transactionTemplate = JdbcDeleteExecutor.createTransactionTemplate(getOperations());
+		}
+
+		return transactionTemplate;
+	}
+
+	private RowMapper<?> getEntityRowMapper(Class<?> domainType) {
+		return entityRowMapperFactory.getRowMapper(domainType);
 	}
 
-	private <T> List<Expression> getSelectProjection(Table table, Query query, Class<T> returnType) {
+	@SuppressWarnings("unchecked")
+	private <T> RowMapper<T> getRowMapper(Class<?> entityClass, Class<T> returnType) {
+		return entityRowMapperFactory.isDtoProjection(returnType, entityClass)
+				? entityRowMapperFactory.getDtoRowMapper(returnType, entityClass)
+				: (RowMapper<T>) getEntityRowMapper(returnType);
+	}
+
+	/**
+	 * Options of a parallel conversion, {@literal null} where rows have to be
+	 * mapped on the reading thread: the generic entity mapper loads relations
+	 * through the connection of the caller's transaction.
+	 */
+	@Nullable
+	private ParallelConversionOptions getParallelConversionOptions(Class<?> entityClass, Class<?> returnType) {
+		if (parallelConversionOptions == null || entityRowMapperFactory.isDtoProjection(returnType, entityClass)
+				|| entityRowMapperFactory.isCompiled(returnType)) {
+			return parallelConversionOptions;
+		}
+
+		return null;
+	}
+
+	private List<Expression> getSelectProjection(Table table, Query query, Class<?> returnType) {
 
 		if (query.getColumns().isEmpty()) {
 
@@ -343,4 +1944,44 @@ public class JdbcAggregatePlusTemplate extends JdbcAggregateTemplate
 		return query.getColumns().stream().map(table::column).collect(Collectors.toList());
 	}
 
+	/**
+	 * Flushes the unit of work before commit and keeps it bound to its own
+	 * transaction only.
+	 */
+	private class UnitOfWorkSynchronization implements TransactionSynchronization {
+
+		private final JdbcUnitOfWork unitOfWork;
+
+		UnitOfWorkSynchronization(JdbcUnitOfWork unitOfWork) {
+			this.unitOfWork = unitOfWork;
+		}
+
+		@Override
+		public void suspend() {
+			TransactionSynchronizationManager.unbindResource(JdbcAggregatePlusTemplate.this);
+		}
+
+		@Override
+		public void resume() {
+			TransactionSynchronizationManager.bindResource(JdbcAggregatePlusTemplate.this, unitOfWork);
+		}
+
+		@Override
+		public void flush() {
+			JdbcAggregatePlusTemplate.this.flush();
+		}
+
+		@Override
+		public void beforeCommit(boolean readOnly) {
+			JdbcAggregatePlusTemplate.this.flush();
+		}
+
+		@Override
+		public void afterCompletion(int status) {
+			TransactionSynchronizationManager.unbindResourceIfPossible(JdbcAggregatePlusTemplate.this);
+			unitOfWork.clear();
+		}
+
+	}
+
 }
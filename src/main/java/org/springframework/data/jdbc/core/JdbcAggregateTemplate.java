@@ -2,13 +2,29 @@ package org.springframework.data.jdbc.core;
 
 import java.lang.reflect.Field;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.ListableBeanFactory;
 import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationEvent;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.GenericApplicationListener;
+import org.springframework.context.event.GenericApplicationListenerAdapter;
+import org.springframework.context.event.SmartApplicationListener;
+import org.springframework.context.support.AbstractApplicationContext;
+import org.springframework.core.ResolvableType;
 import org.springframework.core.annotation.AnnotatedElementUtils;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -16,6 +32,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jdbc.core.convert.DataAccessStrategy;
 import org.springframework.data.jdbc.core.convert.JdbcConverter;
+import org.springframework.data.jdbc.repository.query.UpdateMapper;
 import org.springframework.data.mapping.IdentifierAccessor;
 import org.springframework.data.mapping.callback.EntityCallbacks;
 import org.springframework.data.relational.core.conversion.AggregateChange;
@@ -23,12 +40,17 @@ import org.springframework.data.relational.core.conversion.MutableAggregateChang
 import org.springframework.data.relational.core.conversion.RelationalEntityDeleteWriter;
 import org.springframework.data.relational.core.conversion.RelationalEntityInsertWriter;
 import org.springframework.data.relational.core.conversion.RelationalEntityUpdateWriter;
+import org.springframework.data.relational.core.dialect.Dialect;
+import org.springframework.data.relational.core.dialect.RenderContextFactory;
 import org.springframework.data.relational.core.mapping.ManyToMany;
 import org.springframework.data.relational.core.mapping.NamingStrategy;
 import org.springframework.data.relational.core.mapping.RelationalMappingContext;
 import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+import org.springframework.data.relational.core.mapping.event.AfterDeleteBatchEvent;
 import org.springframework.data.relational.core.mapping.event.AfterDeleteCallback;
 import org.springframework.data.relational.core.mapping.event.AfterDeleteEvent;
+import org.springframework.data.relational.core.mapping.event.AfterLoadBatchEvent;
 import org.springframework.data.relational.core.mapping.event.AfterLoadCallback;
 import org.springframework.data.relational.core.mapping.event.AfterLoadEvent;
 import org.springframework.data.relational.core.mapping.event.AfterSaveCallback;
@@ -39,6 +61,7 @@ import org.springframework.data.relational.core.mapping.event.BeforeDeleteEvent;
 import org.springframework.data.relational.core.mapping.event.BeforeSaveCallback;
 import org.springframework.data.relational.core.mapping.event.BeforeSaveEvent;
 import org.springframework.data.relational.core.mapping.event.Identifier;
+import org.springframework.data.util.Pair;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
 import org.springframework.lang.Nullable;
@@ -51,6 +74,8 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations {
 
 	protected final static String manyToManyDeleteSqlFormat = "DELETE FROM %s WHERE %s = :%s";
 
+	protected final static String manyToManyDeleteInSqlFormat = "DELETE FROM %s WHERE %s IN (%s)";
+
 	protected final static String manyToManyInsertSqlFormat = "INSERT INTO %s(%s, %s) VALUES(:%s, :%s)";
 
 	private final ApplicationEventPublisher publisher;
@@ -65,8 +90,37 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations {
 
 	private NamedParameterJdbcOperations operations;
 
+	@Nullable
+	private JdbcDeleteExecutor deleteExecutor;
+
 	private EntityCallbacks entityCallbacks = EntityCallbacks.create();
 
+	private boolean entityLifecycleEventsEnabled = true;
+
+	private boolean batchLoadEventsEnabled = false;
+
+	@Nullable
+	private Executor eventExecutor;
+
+	private final ThreadLocal<LifecycleEventMode> eventMode = new ThreadLocal<>();
+
+	/**
+	 * Where the callbacks of {@link EntityCallbacks#create(BeanFactory)} come
+	 * from, {@literal null} if they are unknown.
+	 */
+	@Nullable
+	private ListableBeanFactory callbackBeanFactory;
+
+	/**
+	 * Results of {@link #hasListeners(Class, Class)}, valid while the listeners
+	 * of the application context stay the same.
+	 */
+	private final Map<Pair<Class<?>, Class<?>>, Boolean> listenerCache = new ConcurrentHashMap<>();
+
+	private volatile int cachedListenerCount = -1;
+
+	private final AtomicBoolean refreshListenerAdded = new AtomicBoolean();
+
 	/**
 	 * Creates a new {@link JdbcAggregateTemplate} given {@link ApplicationContext},
 	 * {@link RelationalMappingContext} and {@link DataAccessStrategy}.
@@ -95,6 +149,7 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations {
 		this.executor = new AggregateChangeExecutor(converter, accessStrategy);
 
 		setEntityCallbacks(EntityCallbacks.create(publisher));
+		this.callbackBeanFactory = publisher;
 	}
 
 	/**
@@ -143,6 +198,29 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations {
 		this.executor = new AggregateChangeExecutor(converter, accessStrategy);
 	}
 
+	/**
+	 * Creates a template which deletes aggregates by id in batches.
+	 *
+	 * @param publisher          must not be {@literal null}.
+	 * @param context            must not be {@literal null}.
+	 * @param dataAccessStrategy must not be {@literal null}.
+	 * @param dialect            must not be {@literal null}.
+	 * @param operations         must not be {@literal null}.
+	 */
+	public JdbcAggregateTemplate(ApplicationEventPublisher publisher, RelationalMappingContext context,
+			JdbcConverter converter, DataAccessStrategy dataAccessStrategy, Dialect dialect,
+			NamedParameterJdbcOperations operations) {
+
+		this(publisher, context, converter, dataAccessStrategy, operations);
+
+		Assert.notNull(dialect, "Dialect must not be null!");
+
+		this.deleteExecutor = new JdbcDeleteExecutor(context,
+				new DefaultStatementMapper(dialect, new RenderContextFactory(dialect).createRenderContext(),
+						new UpdateMapper(dialect, converter, context), context),
+				operations);
+	}
+
 	/**
 	 * @param entityCallbacks
 	 * @since 1.1
@@ -152,6 +230,68 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations {
 		Assert.notNull(entityCallbacks, "Callbacks must not be null.");
 
 		this.entityCallbacks = entityCallbacks;
+		this.callbackBeanFactory = null;
+	}
+
+	/**
+	 * Whether {@link ApplicationEvent}s like {@link AfterLoadEvent} and
+	 * {@link BeforeSaveEvent} are published. Entity callbacks are invoked either
+	 * way. Disable this for bulk reads and writes that nobody listens to.
+	 *
+	 * @param entityLifecycleEventsEnabled
+	 */
+	public void setEntityLifecycleEventsEnabled(boolean entityLifecycleEventsEnabled) {
+		this.entityLifecycleEventsEnabled = entityLifecycleEventsEnabled;
+	}
+
+	/**
+	 * Publish a single {@link AfterLoadBatchEvent} per loaded result instead of
+	 * one {@link AfterLoadEvent} per entity.
+	 *
+	 * @param batchLoadEventsEnabled
+	 */
+	public void setBatchLoadEventsEnabled(boolean batchLoadEventsEnabled) {
+		this.batchLoadEventsEnabled = batchLoadEventsEnabled;
+	}
+
+	/**
+	 * Dispatch {@link AfterSaveEvent}, {@link AfterDeleteEvent} and
+	 * {@link AfterLoadBatchEvent} on {@code eventExecutor}. Listeners then run
+	 * outside the caller's transaction and may see uncommitted or rolled back
+	 * state. Before* events stay synchronous since listeners may modify the
+	 * entity.
+	 *
+	 * @param eventExecutor {@literal null} to publish on the calling thread.
+	 */
+	public void setEventExecutor(@Nullable Executor eventExecutor) {
+		this.eventExecutor = eventExecutor;
+	}
+
+	/**
+	 * Run {@code action} publishing the lifecycle events of this thread in
+	 * {@code mode}, whatever the settings of the template. Use it to skip or
+	 * batch the events of a single bulk call.
+	 *
+	 * @param mode
+	 * @param action
+	 * @return result of {@code action}
+	 */
+	public <R> R withEventMode(LifecycleEventMode mode, Supplier<R> action) {
+		Assert.notNull(mode, "Event mode must not be null!");
+
+		LifecycleEventMode outer = eventMode.get();
+
+		eventMode.set(mode);
+
+		try {
+			return action.get();
+		} finally {
+			if (outer == null) {
+				eventMode.remove();
+			} else {
+				eventMode.set(outer);
+			}
+		}
 	}
 
 	/*
@@ -383,6 +523,64 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations {
 		executor.execute(change);
 	}
 
+	/**
+	 * Delete the aggregates with the given ids with one {@code IN} statement per
+	 * table and chunk of ids, {@link ManyToMany} join rows included, and publish
+	 * a single {@link AfterDeleteBatchEvent}. Aggregates owning entities, or
+	 * with delete callbacks or listeners of the per id delete events, are
+	 * deleted one by one as by {@link #deleteById(Object, Class)} instead.
+	 *
+	 * @param ids        must not be {@literal null}.
+	 * @param domainType must not be {@literal null}.
+	 */
+	public <T> void deleteAllById(Iterable<?> ids, Class<T> domainType) {
+
+		Assert.notNull(ids, "Ids must not be null!");
+		Assert.notNull(domainType, "Domain type must not be null!");
+
+		List<Object> idList = StreamSupport.stream(ids.spliterator(), false).collect(Collectors.toList());
+
+		if (idList.isEmpty()) {
+			return;
+		}
+
+		if (getDeleteExecutor() == null || !isBatchDeletable(domainType)) {
+			idList.forEach(id -> deleteTree(id, null, domainType));
+		} else {
+			doDeleteAllById(idList, domainType);
+		}
+
+		publishAfterEvent(new AfterDeleteBatchEvent<>(idList, domainType));
+	}
+
+	protected int doDeleteAllById(List<Object> ids, Class<?> domainType) {
+		JdbcDeleteExecutor deleteExecutor = getDeleteExecutor();
+
+		Assert.state(deleteExecutor != null, "No JdbcDeleteExecutor configured");
+
+		return deleteExecutor.deleteByIds(ids, domainType, context.getRequiredPersistentEntity(domainType).getTableName());
+	}
+
+	/**
+	 * Whether the aggregates of {@code domainType} can be deleted by one set based
+	 * statement per table: they own no entities stored in tables of their own and
+	 * no delete callback or listener of a per id delete event is registered.
+	 */
+	private boolean isBatchDeletable(Class<?> domainType) {
+		for (RelationalPersistentProperty property : context.getRequiredPersistentEntity(domainType)) {
+			if (property.isEntity()) {
+				return false;
+			}
+		}
+
+		if (getEventMode() != LifecycleEventMode.NONE && (hasListeners(BeforeDeleteEvent.class, domainType)
+				|| hasListeners(AfterDeleteEvent.class, domainType))) {
+			return false;
+		}
+
+		return !hasCallbacks(BeforeDeleteCallback.class) && !hasCallbacks(AfterDeleteCallback.class);
+	}
+
 	private <T> T store(T aggregateRoot, Function<T, MutableAggregateChange<T>> changeCreator,
 			RelationalPersistentEntity<?> persistentEntity) {
 
@@ -502,45 +700,72 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations {
 		return aggregateChange;
 	}
 
-	private <T> Iterable<T> triggerAfterLoad(Iterable<T> all) {
+	@SuppressWarnings("unchecked")
+	protected <T> Iterable<T> triggerAfterLoad(Iterable<T> all) {
+
+		Iterator<T> iterator = all.iterator();
+
+		if (!iterator.hasNext()) {
+			return all;
+		}
+
+		LifecycleEventMode mode = getEventMode();
+		boolean batch = mode == LifecycleEventMode.BATCH;
+		Class<?> type = iterator.next().getClass();
+
+		// nothing would observe or replace the entities
+		if (!hasCallbacks(AfterLoadCallback.class) && (mode == LifecycleEventMode.NONE
+				|| !hasListeners(batch ? AfterLoadBatchEvent.class : AfterLoadEvent.class, type))) {
+			return all;
+		}
 
 		List<T> result = new ArrayList<>();
 
 		for (T e : all) {
-			result.add(triggerAfterLoad(e));
+			result.add(triggerAfterLoad(e, !batch));
+		}
+
+		if (batch && !result.isEmpty()) {
+			publishAfterEvent(new AfterLoadBatchEvent<>(result, (Class<T>) result.get(0).getClass()));
 		}
 
 		return result;
 	}
 
-	private <T> T triggerAfterLoad(T entity) {
+	protected <T> T triggerAfterLoad(T entity) {
+		return triggerAfterLoad(entity, true);
+	}
+
+	private <T> T triggerAfterLoad(T entity, boolean publish) {
 
-		publisher.publishEvent(new AfterLoadEvent<>(entity));
+		if (publish) {
+			publishEvent(new AfterLoadEvent<>(entity));
+		}
 
 		return entityCallbacks.callback(AfterLoadCallback.class, entity);
 	}
 
-	private <T> T triggerBeforeConvert(T aggregateRoot) {
+	protected <T> T triggerBeforeConvert(T aggregateRoot) {
 		return entityCallbacks.callback(BeforeConvertCallback.class, aggregateRoot);
 	}
 
-	private <T> T triggerBeforeSave(T aggregateRoot, AggregateChange<T> change) {
+	protected <T> T triggerBeforeSave(T aggregateRoot, AggregateChange<T> change) {
 
-		publisher.publishEvent(new BeforeSaveEvent<>(aggregateRoot, change));
+		publishEvent(new BeforeSaveEvent<>(aggregateRoot, change));
 
 		return entityCallbacks.callback(BeforeSaveCallback.class, aggregateRoot, change);
 	}
 
-	private <T> T triggerAfterSave(T aggregateRoot, AggregateChange<T> change) {
+	protected <T> T triggerAfterSave(T aggregateRoot, AggregateChange<T> change) {
 
-		publisher.publishEvent(new AfterSaveEvent<>(aggregateRoot, change));
+		publishAfterEvent(new AfterSaveEvent<>(aggregateRoot, change));
 
 		return entityCallbacks.callback(AfterSaveCallback.class, aggregateRoot);
 	}
 
 	private <T> void triggerAfterDelete(@Nullable T aggregateRoot, Object id, MutableAggregateChange<T> change) {
 
-		publisher.publishEvent(new AfterDeleteEvent<>(Identifier.of(id), aggregateRoot, change));
+		publishAfterEvent(new AfterDeleteEvent<>(Identifier.of(id), aggregateRoot, change));
 
 		if (aggregateRoot != null) {
 			entityCallbacks.callback(AfterDeleteCallback.class, aggregateRoot);
@@ -550,7 +775,7 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations {
 	@Nullable
 	private <T> T triggerBeforeDelete(@Nullable T aggregateRoot, Object id, MutableAggregateChange<T> change) {
 
-		publisher.publishEvent(new BeforeDeleteEvent<>(Identifier.of(id), aggregateRoot, change));
+		publishEvent(new BeforeDeleteEvent<>(Identifier.of(id), aggregateRoot, change));
 
 		if (aggregateRoot != null) {
 			return entityCallbacks.callback(BeforeDeleteCallback.class, aggregateRoot, change);
@@ -559,10 +784,126 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations {
 		return null;
 	}
 
+	private LifecycleEventMode getEventMode() {
+		LifecycleEventMode mode = eventMode.get();
+
+		if (mode != null) {
+			return mode;
+		}
+
+		if (!entityLifecycleEventsEnabled) {
+			return LifecycleEventMode.NONE;
+		}
+
+		return batchLoadEventsEnabled ? LifecycleEventMode.BATCH : LifecycleEventMode.PER_ENTITY;
+	}
+
+	/**
+	 * Whether a callback of {@code callbackType} may be registered, {@literal true}
+	 * unless the callbacks are the beans of the application context.
+	 */
+	private boolean hasCallbacks(Class<?> callbackType) {
+		ListableBeanFactory beanFactory = callbackBeanFactory;
+
+		return beanFactory == null || beanFactory.getBeanNamesForType(callbackType, true, false).length > 0;
+	}
+
+	/**
+	 * Whether a listener of the application context may receive an
+	 * {@code eventType} for entities of {@code entityType}, {@literal true} if the
+	 * publisher is not an application context.
+	 */
+	private boolean hasListeners(Class<?> eventType, Class<?> entityType) {
+		if (!(publisher instanceof AbstractApplicationContext) || !((AbstractApplicationContext) publisher).isActive()) {
+			return true;
+		}
+
+		AbstractApplicationContext applicationContext = (AbstractApplicationContext) publisher;
+
+		if (refreshListenerAdded.compareAndSet(false, true)) {
+			// bean listeners may change on refresh, added ones change the count
+			applicationContext.addApplicationListener(new ApplicationListener<ContextRefreshedEvent>() {
+
+				@Override
+				public void onApplicationEvent(ContextRefreshedEvent event) {
+					listenerCache.clear();
+				}
+			});
+		}
+
+		int listenerCount = applicationContext.getApplicationListeners().size();
+
+		if (listenerCount != cachedListenerCount) {
+			listenerCache.clear();
+			cachedListenerCount = listenerCount;
+		}
+
+		return listenerCache.computeIfAbsent(Pair.of(eventType, entityType),
+				key -> findListener(applicationContext, ResolvableType.forClassWithGenerics(eventType, entityType)));
+	}
+
+	/**
+	 * Bean listeners are judged by their declared event type, so that none is
+	 * instantiated here. Listeners that decide at runtime count as listening.
+	 */
+	private static boolean findListener(AbstractApplicationContext applicationContext, ResolvableType eventType) {
+		for (ApplicationListener<?> listener : applicationContext.getApplicationListeners()) {
+			if (new GenericApplicationListenerAdapter(listener).supportsEventType(eventType)) {
+				return true;
+			}
+		}
+
+		for (String name : applicationContext.getBeanNamesForType(ApplicationListener.class, true, false)) {
+			Class<?> listenerType = applicationContext.getType(name, false);
+
+			if (listenerType == null || GenericApplicationListener.class.isAssignableFrom(listenerType)
+					|| SmartApplicationListener.class.isAssignableFrom(listenerType)) {
+				return true;
+			}
+
+			ResolvableType declared = ResolvableType.forClass(listenerType).as(ApplicationListener.class).getGeneric();
+
+			if (declared.resolve() == null || declared.isAssignableFrom(eventType)) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	private void publishEvent(ApplicationEvent event) {
+		if (getEventMode() != LifecycleEventMode.NONE) {
+			publisher.publishEvent(event);
+		}
+	}
+
+	private void publishAfterEvent(ApplicationEvent event) {
+		if (getEventMode() == LifecycleEventMode.NONE) {
+			return;
+		}
+
+		Executor executor = this.eventExecutor;
+
+		if (executor == null) {
+			publisher.publishEvent(event);
+		} else {
+			executor.execute(() -> publisher.publishEvent(event));
+		}
+	}
+
 	public NamedParameterJdbcOperations getOperations() {
 		return operations;
 	}
 
+	/**
+	 * @return the executor of set based deletes, {@literal null} if aggregates
+	 *         are deleted one by one
+	 */
+	@Nullable
+	protected JdbcDeleteExecutor getDeleteExecutor() {
+		return deleteExecutor;
+	}
+
 	public JdbcAggregateTemplate setOperations(NamedParameterJdbcOperations operations) {
 		this.operations = operations;
 		return this;
@@ -0,0 +1,244 @@
+package org.springframework.data.jdbc.core;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.data.relational.core.mapping.AppendOnly;
+import org.springframework.util.Assert;
+
+/**
+ * Asynchronous batched writer for {@link AppendOnly} entities. Callers enqueue
+ * into a bounded lock-free queue and return; a single flusher thread writes
+ * the queued entities in batches of {@link AppendOptions#getBatchSize()}, or
+ * fewer once {@link AppendOptions#getMaxDelayMillis()} has passed.
+ * <p>
+ * A full queue makes callers wait for the flusher. A caller that waited
+ * {@link AppendOptions#getOfferTimeoutMillis()} writes its entity itself and
+ * gets the exception if that fails. {@link #close()} writes everything still
+ * queued, an entity appended while it runs is written by its caller.
+ */
+public class JdbcAppendWriter {
+
+	private static final Log logger = LogFactory.getLog(JdbcAppendWriter.class);
+
+	private static final long BACKOFF_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+
+	private final Consumer<List<Object>> sink;
+
+	private final AppendOptions options;
+
+	private final ConcurrentLinkedQueue<Object> queue = new ConcurrentLinkedQueue<>();
+
+	// reserved slots, ahead of the queue size while an offer is in progress
+	private final AtomicInteger depth = new AtomicInteger();
+
+	private final AtomicLong writtenRows = new AtomicLong();
+
+	private final AtomicLong failedRows = new AtomicLong();
+
+	private final AtomicLong lastFlushNanos = new AtomicLong();
+
+	private final AtomicLong maxFlushNanos = new AtomicLong();
+
+	private final Thread flusher;
+
+	private volatile boolean closed = false;
+
+	/**
+	 * @param sink    writes one batch, in the flusher thread or, for a caller
+	 *                that could not queue its entity, in the caller's thread
+	 * @param options
+	 */
+	public JdbcAppendWriter(Consumer<List<Object>> sink, AppendOptions options) {
+		Assert.isTrue(options.getCapacity() > 0, "Capacity must be greater than 0");
+		Assert.isTrue(options.getBatchSize() > 0, "Batch size must be greater than 0");
+
+		this.sink = sink;
+		this.options = options;
+		this.flusher = new Thread(this::run, "jdbc-append-writer");
+		this.flusher.setDaemon(true);
+		this.flusher.start();
+	}
+
+	public void append(Object entity) {
+		Assert.notNull(entity, "Entity must not be null!");
+		Assert.state(!closed, "Append writer is closed");
+
+		if (!reserve()) {
+			// backpressure: the caller pays for its own write
+			write(Collections.singletonList(entity), true);
+			return;
+		}
+
+		queue.offer(entity);
+
+		// the final drain of close() may have run before the offer
+		if (closed && queue.remove(entity)) {
+			depth.decrementAndGet();
+			write(Collections.singletonList(entity), true);
+			return;
+		}
+
+		if (depth.get() >= options.getBatchSize()) {
+			LockSupport.unpark(flusher);
+		}
+	}
+
+	/**
+	 * Stop accepting entities and write the queued ones.
+	 */
+	public void close() {
+		if (closed) {
+			return;
+		}
+
+		closed = true;
+		LockSupport.unpark(flusher);
+
+		try {
+			flusher.join();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+
+		// offers that raced with close
+		drainAndWrite();
+	}
+
+	public int getQueueDepth() {
+		return depth.get();
+	}
+
+	public long getWrittenRows() {
+		return writtenRows.get();
+	}
+
+	public long getFailedRows() {
+		return failedRows.get();
+	}
+
+	public long getLastFlushNanos() {
+		return lastFlushNanos.get();
+	}
+
+	public long getMaxFlushNanos() {
+		return maxFlushNanos.get();
+	}
+
+	private boolean reserve() {
+		long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(options.getOfferTimeoutMillis());
+
+		while (true) {
+			int current = depth.get();
+
+			if (current < options.getCapacity()) {
+				if (depth.compareAndSet(current, current + 1)) {
+					return true;
+				}
+
+				continue;
+			}
+
+			if (System.nanoTime() - deadline >= 0) {
+				return false;
+			}
+
+			LockSupport.unpark(flusher);
+			LockSupport.parkNanos(this, BACKOFF_NANOS);
+		}
+	}
+
+	private void run() {
+		long maxDelay = TimeUnit.MILLISECONDS.toNanos(options.getMaxDelayMillis());
+
+		while (true) {
+			long deadline = System.nanoTime() + maxDelay;
+			long remaining;
+
+			while (!closed && depth.get() < options.getBatchSize()
+					&& (remaining = deadline - System.nanoTime()) > 0) {
+				LockSupport.parkNanos(this, remaining);
+			}
+
+			if (drainAndWrite() == 0 && closed) {
+				return;
+			}
+		}
+	}
+
+	private int drainAndWrite() {
+		int total = 0;
+
+		while (true) {
+			List<Object> batch = new ArrayList<>();
+			Object entity;
+
+			while (batch.size() < options.getBatchSize() && (entity = queue.poll()) != null) {
+				batch.add(entity);
+			}
+
+			if (batch.isEmpty()) {
+				return total;
+			}
+
+			depth.addAndGet(-batch.size());
+			write(batch, false);
+			total += batch.size();
+
+			// keep going while full batches are waiting
+			if (batch.size() < options.getBatchSize()) {
+				return total;
+			}
+		}
+	}
+
+	/**
+	 * @param rethrow whether the caller gets the exception of a failed write
+	 *                instead of the log
+	 */
+	private void write(List<Object> batch, boolean rethrow) {
+		long start = System.nanoTime();
+		RuntimeException error = null;
+
+		try {
+			sink.accept(batch);
+			writtenRows.addAndGet(batch.size());
+		} catch (RuntimeException e) {
+			error = e;
+			failedRows.addAndGet(batch.size());
+
+			if (!rethrow) {
+				logger.error("Failed to write " + batch.size() + " appended entities", e);
+			}
+		}
+
+		long latency = System.nanoTime() - start;
+
+		lastFlushNanos.set(latency);
+		maxFlushNanos.accumulateAndGet(latency, Math::max);
+
+		AppendFlushListener listener = options.getListener();
+
+		if (listener != null) {
+			try {
+				listener.onFlush(batch.size(), latency, depth.get(), error);
+			} catch (RuntimeException e) {
+				logger.warn("Append flush listener failed", e);
+			}
+		}
+
+		if (error != null && rethrow) {
+			throw error;
+		}
+	}
+
+}
@@ -0,0 +1,201 @@
+package org.springframework.data.jdbc.core;
+
+import java.lang.reflect.Method;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.PreparedStatementCreatorFactory;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
+import org.springframework.jdbc.core.namedparam.NamedParameterUtils;
+import org.springframework.jdbc.core.namedparam.ParsedSql;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Runs blocking template and repository calls on an {@link Executor} and
+ * completes a {@link CompletableFuture} with their result. Without an executor
+ * of its own it starts a virtual thread per task on Java 21 and later, else it
+ * uses a cached pool of daemon threads.
+ * <p>
+ * Cancelling the returned future skips a task that has not started. While a
+ * task runs, the statements created through {@link #query} and the streaming
+ * executors are registered, and cancelling the future calls
+ * {@link Statement#cancel()} on the one in progress. Futures derived from the
+ * returned one do not propagate cancellation.
+ */
+public class JdbcAsyncExecutor {
+
+	private static final ThreadLocal<Task<?>> CURRENT = new ThreadLocal<>();
+
+	private final Executor executor;
+
+	@Nullable
+	private final ExecutorService ownExecutor;
+
+	public JdbcAsyncExecutor() {
+		this(null);
+	}
+
+	/**
+	 * @param executor runs the tasks, {@literal null} for virtual threads where
+	 *                 available
+	 */
+	public JdbcAsyncExecutor(@Nullable Executor executor) {
+		this.ownExecutor = executor == null ? createExecutor() : null;
+		this.executor = executor != null ? executor : ownExecutor;
+	}
+
+	/**
+	 * @param task blocking call
+	 * @return completed with the result of {@code task}
+	 */
+	public <T> CompletableFuture<T> submit(Supplier<T> task) {
+		Task<T> future = new Task<>(task);
+
+		try {
+			executor.execute(future);
+		} catch (RejectedExecutionException e) {
+			future.completeExceptionally(e);
+		}
+
+		return future;
+	}
+
+	/**
+	 * Stop the threads started by this executor, a given executor is left alone.
+	 */
+	public void shutdown() {
+		if (ownExecutor != null) {
+			ownExecutor.shutdown();
+		}
+	}
+
+	/**
+	 * Run {@code sql} through {@code operations}, so that a task of a
+	 * {@link JdbcAsyncExecutor} can cancel the statement.
+	 *
+	 * @param operations
+	 * @param sql        the query
+	 * @param parameters its parameters
+	 * @param extractor
+	 * @return result of {@code extractor}
+	 */
+	@Nullable
+	public static <T> T query(NamedParameterJdbcOperations operations, String sql, SqlParameterSource parameters,
+			ResultSetExtractor<T> extractor) {
+		if (CURRENT.get() == null) {
+			return operations.query(sql, parameters, extractor);
+		}
+
+		ParsedSql parsedSql = NamedParameterUtils.parseSqlStatement(sql);
+		PreparedStatementCreatorFactory factory = new PreparedStatementCreatorFactory(
+				NamedParameterUtils.substituteNamedParameters(parsedSql, parameters),
+				NamedParameterUtils.buildSqlParameterList(parsedSql, parameters));
+		PreparedStatementCreator creator = factory
+				.newPreparedStatementCreator(NamedParameterUtils.buildValueArray(parsedSql, parameters, null));
+
+		return operations.getJdbcOperations().query(con -> register(creator.createPreparedStatement(con)),
+				extractor);
+	}
+
+	/**
+	 * Make {@code statement} the one a cancellation of the running task cancels.
+	 *
+	 * @throws CancellationException if the task is already cancelled
+	 */
+	static PreparedStatement register(PreparedStatement statement) throws SQLException {
+		Task<?> task = CURRENT.get();
+
+		if (task != null) {
+			task.statement = statement;
+
+			if (task.isCancelled()) {
+				statement.close();
+				throw new CancellationException();
+			}
+		}
+
+		return statement;
+	}
+
+	private static ExecutorService createExecutor() {
+		// Java 21 and later
+		Method virtualThreads = ClassUtils.getMethodIfAvailable(Executors.class, "newVirtualThreadPerTaskExecutor");
+
+		if (virtualThreads != null) {
+			return (ExecutorService) ReflectionUtils.invokeMethod(virtualThreads, null);
+		}
+
+		AtomicInteger counter = new AtomicInteger();
+
+		return Executors.newCachedThreadPool(runnable -> {
+			Thread thread = new Thread(runnable, "jdbc-async-" + counter.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	private static class Task<T> extends CompletableFuture<T> implements Runnable {
+
+		private final Supplier<T> supplier;
+
+		@Nullable
+		private volatile Statement statement;
+
+		Task(Supplier<T> supplier) {
+			this.supplier = supplier;
+		}
+
+		@Override
+		public void run() {
+			if (isDone()) {
+				return;
+			}
+
+			// an executor may run the task on the thread of another one
+			Task<?> outer = CURRENT.get();
+
+			CURRENT.set(this);
+
+			try {
+				complete(supplier.get());
+			} catch (Throwable e) {
+				completeExceptionally(e);
+			} finally {
+				statement = null;
+				CURRENT.set(outer);
+			}
+		}
+
+		@Override
+		public boolean cancel(boolean mayInterruptIfRunning) {
+			boolean cancelled = super.cancel(mayInterruptIfRunning);
+			Statement running = statement;
+
+			if (cancelled && running != null) {
+				try {
+					running.cancel();
+				} catch (SQLException e) {
+					// the statement has completed meanwhile
+				}
+			}
+
+			return cancelled;
+		}
+
+	}
+
+}
@@ -0,0 +1,125 @@
+package org.springframework.data.jdbc.core;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.data.domain.Page;
+import org.springframework.data.relational.core.query.Query;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Runs the queries and saves of a {@link JdbcAggregatePlusTemplate} on a
+ * {@link JdbcAsyncExecutor} and returns a {@link CompletableFuture} of their
+ * result. Queries run outside the transaction of the caller, after its
+ * write-behind queue has been flushed.
+ */
+public class JdbcAsyncTemplate implements DisposableBean {
+
+	private final JdbcAggregatePlusTemplate template;
+
+	@Nullable
+	private volatile JdbcAsyncExecutor asyncExecutor;
+
+	private boolean ownAsyncExecutor = false;
+
+	public JdbcAsyncTemplate(JdbcAggregatePlusTemplate template) {
+		Assert.notNull(template, "JdbcAggregatePlusTemplate must not be null");
+		this.template = template;
+	}
+
+	/**
+	 * Executor of the asynchronous calls, to be set before the first one. By
+	 * default a virtual thread per call where available.
+	 *
+	 * @param asyncExecutor
+	 */
+	public void setAsyncExecutor(JdbcAsyncExecutor asyncExecutor) {
+		Assert.notNull(asyncExecutor, "JdbcAsyncExecutor must not be null");
+		Assert.state(this.asyncExecutor == null, "Async executor is already in use");
+		this.asyncExecutor = asyncExecutor;
+	}
+
+	/**
+	 * Shut the default executor down, an executor that was set is left alone.
+	 */
+	@Override
+	public void destroy() {
+		JdbcAsyncExecutor executor = asyncExecutor;
+
+		if (executor != null && ownAsyncExecutor) {
+			executor.shutdown();
+		}
+	}
+
+	public <T> CompletableFuture<List<T>> findListAsync(Query query, Class<T> entityClass) {
+		return findListAsync(query, entityClass, entityClass);
+	}
+
+	/**
+	 * {@link JdbcAggregatePlusTemplate#findList(Query, Class, Class)} on the
+	 * async executor. Cancelling the future cancels the statement.
+	 *
+	 * @param query
+	 * @param entityClass
+	 * @param returnType
+	 * @return
+	 * @see #setAsyncExecutor(JdbcAsyncExecutor)
+	 */
+	public <T> CompletableFuture<List<T>> findListAsync(Query query, Class<?> entityClass, Class<T> returnType) {
+		template.flush();
+
+		return getAsyncExecutor().submit(() -> template.findList(query, entityClass, returnType));
+	}
+
+	public <T> CompletableFuture<Page<T>> findPageAsync(Query query, Class<T> entityClass) {
+		return findPageAsync(query, entityClass, entityClass);
+	}
+
+	public <T> CompletableFuture<Page<T>> findPageAsync(Query query, Class<?> entityClass, Class<T> returnType) {
+		template.flush();
+
+		return getAsyncExecutor().submit(() -> template.findPage(query, entityClass, returnType));
+	}
+
+	public CompletableFuture<Long> countAsync(Query query, Class<?> entityClass) {
+		template.flush();
+
+		return getAsyncExecutor().submit(() -> template.count(query, entityClass));
+	}
+
+	/**
+	 * {@link JdbcAggregatePlusTemplate#save(Object)} on the async executor, in a
+	 * transaction of its own and bypassing the write-behind queue of the caller.
+	 * Cancelling the future only skips a save that has not started.
+	 *
+	 * @param instance
+	 * @return the saved instance
+	 */
+	public <T> CompletableFuture<T> saveAsync(T instance) {
+		Assert.notNull(instance, "Aggregate instance must not be null!");
+
+		return getAsyncExecutor()
+				.submit(() -> template.getTransactionTemplate().execute(status -> template.save(instance)));
+	}
+
+	private JdbcAsyncExecutor getAsyncExecutor() {
+		JdbcAsyncExecutor executor = asyncExecutor;
+
+		if (executor == null) {
+			synchronized (this) {
+				executor = asyncExecutor;
+
+				if (executor == null) {
+					executor = new JdbcAsyncExecutor();
+					ownAsyncExecutor = true;
+					asyncExecutor = executor;
+				}
+			}
+		}
+
+		return executor;
+	}
+
+}
@@ -0,0 +1,202 @@
+package org.springframework.data.jdbc.core;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.springframework.data.jdbc.core.ColumnarResult.Column;
+import org.springframework.data.jdbc.core.ColumnarResult.DoubleColumn;
+import org.springframework.data.jdbc.core.ColumnarResult.IntColumn;
+import org.springframework.data.jdbc.core.ColumnarResult.LongColumn;
+import org.springframework.data.jdbc.core.ColumnarResult.StringColumn;
+import org.springframework.data.jdbc.core.convert.JdbcConverter;
+import org.springframework.data.jdbc.core.convert.JdbcValue;
+import org.springframework.data.jdbc.support.JdbcUtil;
+import org.springframework.data.relational.core.dialect.Dialect;
+import org.springframework.data.relational.core.mapping.RelationalMappingContext;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+import org.springframework.data.relational.core.sql.IdentifierProcessing;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.StatementCreatorUtils;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
+
+/**
+ * JDBC batch {@code INSERT} of a {@link ColumnBatch}. Primitive columns are
+ * bound positionally with the primitive setters, straight from the arrays,
+ * so no object is created per row except for {@link ColumnBatch#column(String,
+ * Object[]) object columns}, which need the conversion of the entity property.
+ */
+public class JdbcColumnInsertExecutor {
+
+	private static final int BATCH_SIZE = 1000;
+
+	private final RelationalMappingContext context;
+
+	private final JdbcConverter converter;
+
+	private final IdentifierProcessing identifierProcessing;
+
+	private final IdentifierAllocator identifierAllocator;
+
+	private final NamedParameterJdbcOperations operations;
+
+	public JdbcColumnInsertExecutor(RelationalMappingContext context, JdbcConverter converter, Dialect dialect,
+			IdentifierAllocator identifierAllocator, NamedParameterJdbcOperations operations) {
+		this.context = context;
+		this.converter = converter;
+		this.identifierProcessing = dialect.getIdentifierProcessing();
+		this.identifierAllocator = identifierAllocator;
+		this.operations = operations;
+	}
+
+	/**
+	 * Insert the rows of {@code batch} in JDBC batches of {@value #BATCH_SIZE}.
+	 * Without an id column the ids come from the {@code IdGenerator} of the
+	 * entity or, lacking one, from the database.
+	 *
+	 * @param entityClass
+	 * @param batch
+	 * @return number of inserted rows
+	 */
+	public long insertColumns(Class<?> entityClass, ColumnBatch batch) {
+		RelationalPersistentEntity<?> persistentEntity = context.getRequiredPersistentEntity(entityClass);
+		RelationalPersistentProperty idProperty = persistentEntity.getRequiredIdProperty();
+		List<RelationalPersistentProperty> columnProperties = JdbcInsertExecutor.getColumnProperties(persistentEntity);
+
+		List<RelationalPersistentProperty> properties = new ArrayList<>();
+		List<Binder> binders = new ArrayList<>();
+
+		for (Map.Entry<String, Column> column : batch.getColumns().entrySet()) {
+			RelationalPersistentProperty property = persistentEntity.getPersistentProperty(column.getKey());
+
+			if (property == null || !columnProperties.contains(property)) {
+				throw new IllegalArgumentException(
+						"No column property " + column.getKey() + " in " + entityClass.getName());
+			}
+
+			properties.add(property);
+			binders.add(getBinder(property, column.getValue()));
+		}
+
+		if (!properties.contains(idProperty) && identifierAllocator.hasGenerator(entityClass)) {
+			long[] ids = new long[batch.size()];
+
+			for (int i = 0; i < ids.length; i++) {
+				ids[i] = identifierAllocator.nextId(entityClass);
+			}
+
+			properties.add(0, idProperty);
+			binders.add(0, getBinder(idProperty, new LongColumn(ids, null)));
+		}
+
+		String sql = createSql(persistentEntity, properties);
+		long count = 0;
+
+		for (int from = 0; from < batch.size(); from += BATCH_SIZE) {
+			int offset = from;
+			int rows = Math.min(BATCH_SIZE, batch.size() - from);
+
+			operations.getJdbcOperations().batchUpdate(sql, new BatchPreparedStatementSetter() {
+
+				@Override
+				public void setValues(PreparedStatement ps, int i) throws SQLException {
+					for (int j = 0; j < binders.size(); j++) {
+						binders.get(j).bind(ps, j + 1, offset + i);
+					}
+				}
+
+				@Override
+				public int getBatchSize() {
+					return rows;
+				}
+			});
+
+			count += rows;
+		}
+
+		return count;
+	}
+
+	private String createSql(RelationalPersistentEntity<?> persistentEntity,
+			List<RelationalPersistentProperty> properties) {
+		return String.format("INSERT INTO %s (%s) VALUES (%s)",
+				persistentEntity.getTableName().toSql(identifierProcessing),
+				properties.stream().map(p -> p.getColumnName().toSql(identifierProcessing))
+						.collect(Collectors.joining(", ")),
+				String.join(", ", Collections.nCopies(properties.size(), "?")));
+	}
+
+	private Binder getBinder(RelationalPersistentProperty property, Column column) {
+		int sqlType = converter.getSqlType(property);
+
+		if (column instanceof LongColumn) {
+			LongColumn values = (LongColumn) column;
+
+			return (ps, index, row) -> {
+				if (values.isNull(row)) {
+					ps.setNull(index, sqlType);
+				} else {
+					ps.setLong(index, values.get(row));
+				}
+			};
+		}
+
+		if (column instanceof IntColumn) {
+			IntColumn values = (IntColumn) column;
+
+			return (ps, index, row) -> {
+				if (values.isNull(row)) {
+					ps.setNull(index, sqlType);
+				} else {
+					ps.setInt(index, values.get(row));
+				}
+			};
+		}
+
+		if (column instanceof DoubleColumn) {
+			DoubleColumn values = (DoubleColumn) column;
+
+			return (ps, index, row) -> {
+				if (values.isNull(row)) {
+					ps.setNull(index, sqlType);
+				} else {
+					ps.setDouble(index, values.get(row));
+				}
+			};
+		}
+
+		if (column instanceof StringColumn) {
+			StringColumn values = (StringColumn) column;
+
+			return (ps, index, row) -> {
+				if (values.isNull(row)) {
+					ps.setNull(index, sqlType);
+				} else {
+					ps.setString(index, values.get(row));
+				}
+			};
+		}
+
+		Class<?> columnType = converter.getColumnType(property);
+
+		return (ps, index, row) -> {
+			JdbcValue jdbcValue = converter.writeJdbcValue(column.getObject(row), columnType, sqlType);
+
+			StatementCreatorUtils.setParameterValue(ps, index, JdbcUtil.sqlTypeFor(jdbcValue.getJdbcType()),
+					jdbcValue.getValue());
+		};
+	}
+
+	@FunctionalInterface
+	private interface Binder {
+
+		void bind(PreparedStatement ps, int index, int row) throws SQLException;
+
+	}
+
+}
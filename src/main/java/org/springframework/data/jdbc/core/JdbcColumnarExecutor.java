@@ -0,0 +1,282 @@
+package org.springframework.data.jdbc.core;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.data.jdbc.core.ColumnarResult.Column;
+import org.springframework.data.jdbc.core.ColumnarResult.DoubleColumn;
+import org.springframework.data.jdbc.core.ColumnarResult.IntColumn;
+import org.springframework.data.jdbc.core.ColumnarResult.LongColumn;
+import org.springframework.data.jdbc.core.ColumnarResult.ObjectColumn;
+import org.springframework.data.jdbc.core.ColumnarResult.StringColumn;
+import org.springframework.data.relational.core.dialect.Dialect;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.lang.Nullable;
+
+/**
+ * Reads query results column by column into a {@link ColumnarResult},
+ * straight from the {@link ResultSet} with the primitive getters. The arrays
+ * start small and double when full, the final ones are trimmed to the number
+ * of rows.
+ */
+public class JdbcColumnarExecutor {
+
+	private static final int INITIAL_CAPACITY = 1024;
+
+	private final Dialect dialect;
+
+	private final NamedParameterJdbcOperations operations;
+
+	public JdbcColumnarExecutor(Dialect dialect, NamedParameterJdbcOperations operations) {
+		this.dialect = dialect;
+		this.operations = operations;
+	}
+
+	/**
+	 * @param sql        the query
+	 * @param parameters its parameters
+	 * @param names      names of the selected columns, in order
+	 * @param types      Java type of each selected column, {@literal null} if
+	 *                   unknown
+	 * @return the rows by column
+	 */
+	public ColumnarResult query(String sql, SqlParameterSource parameters, List<String> names,
+			List<Class<?>> types) {
+		List<ColumnReader> readers = new ArrayList<>(types.size());
+
+		for (Class<?> type : types) {
+			readers.add(getReader(type));
+		}
+
+		int[] rows = new int[1];
+
+		operations.getJdbcOperations().query(JdbcExportExecutor.getStatementCreator(dialect, sql, parameters),
+				(RowCallbackHandler) rs -> {
+					for (int i = 0; i < readers.size(); i++) {
+						readers.get(i).read(rs, i + 1, rows[0]);
+					}
+
+					rows[0]++;
+				});
+
+		Map<String, Column> columns = new LinkedHashMap<>();
+
+		for (int i = 0; i < names.size(); i++) {
+			columns.put(names.get(i), readers.get(i).build(rows[0]));
+		}
+
+		return new ColumnarResult(rows[0], columns);
+	}
+
+	/**
+	 * @param sql        a query selecting a single integral column
+	 * @param parameters its parameters
+	 * @return the values of that column, {@code NULL} as {@literal 0}
+	 */
+	public long[] queryLongs(String sql, SqlParameterSource parameters) {
+		LongReader reader = new LongReader();
+		int[] rows = new int[1];
+
+		operations.getJdbcOperations().query(JdbcExportExecutor.getStatementCreator(dialect, sql, parameters),
+				(RowCallbackHandler) rs -> reader.read(rs, 1, rows[0]++));
+
+		return Arrays.copyOf(reader.values, rows[0]);
+	}
+
+	private static ColumnReader getReader(@Nullable Class<?> type) {
+		if (type == Long.class || type == long.class) {
+			return new LongReader();
+		}
+
+		if (type == Integer.class || type == int.class || type == Short.class || type == short.class
+				|| type == Byte.class || type == byte.class) {
+			return new IntReader();
+		}
+
+		if (type == Double.class || type == double.class || type == Float.class || type == float.class) {
+			return new DoubleReader();
+		}
+
+		if (type == String.class || (type != null && type.isEnum())) {
+			return new StringReader();
+		}
+
+		return new ObjectReader();
+	}
+
+	/**
+	 * One growing column. The {@code NULL} bitmap is only allocated once a
+	 * {@code NULL} is read.
+	 */
+	private abstract static class ColumnReader {
+
+		@Nullable
+		private long[] nulls;
+
+		abstract void read(ResultSet rs, int index, int row) throws SQLException;
+
+		abstract Column build(int rows);
+
+		void setNull(int row) {
+			int word = row >>> 6;
+
+			if (nulls == null) {
+				nulls = new long[Math.max(INITIAL_CAPACITY >>> 6, word + 1)];
+			} else if (word >= nulls.length) {
+				nulls = Arrays.copyOf(nulls, Math.max(nulls.length << 1, word + 1));
+			}
+
+			nulls[word] |= 1L << row;
+		}
+
+		@Nullable
+		long[] getNulls(int rows) {
+			return nulls == null ? null : Arrays.copyOf(nulls, (rows + 63) >>> 6);
+		}
+
+	}
+
+	private static class LongReader extends ColumnReader {
+
+		private long[] values = new long[INITIAL_CAPACITY];
+
+		@Override
+		void read(ResultSet rs, int index, int row) throws SQLException {
+			if (row == values.length) {
+				values = Arrays.copyOf(values, values.length << 1);
+			}
+
+			values[row] = rs.getLong(index);
+
+			if (rs.wasNull()) {
+				setNull(row);
+			}
+		}
+
+		@Override
+		Column build(int rows) {
+			return new LongColumn(Arrays.copyOf(values, rows), getNulls(rows));
+		}
+
+	}
+
+	private static class IntReader extends ColumnReader {
+
+		private int[] values = new int[INITIAL_CAPACITY];
+
+		@Override
+		void read(ResultSet rs, int index, int row) throws SQLException {
+			if (row == values.length) {
+				values = Arrays.copyOf(values, values.length << 1);
+			}
+
+			values[row] = rs.getInt(index);
+
+			if (rs.wasNull()) {
+				setNull(row);
+			}
+		}
+
+		@Override
+		Column build(int rows) {
+			return new IntColumn(Arrays.copyOf(values, rows), getNulls(rows));
+		}
+
+	}
+
+	private static class DoubleReader extends ColumnReader {
+
+		private double[] values = new double[INITIAL_CAPACITY];
+
+		@Override
+		void read(ResultSet rs, int index, int row) throws SQLException {
+			if (row == values.length) {
+				values = Arrays.copyOf(values, values.length << 1);
+			}
+
+			values[row] = rs.getDouble(index);
+
+			if (rs.wasNull()) {
+				setNull(row);
+			}
+		}
+
+		@Override
+		Column build(int rows) {
+			return new DoubleColumn(Arrays.copyOf(values, rows), getNulls(rows));
+		}
+
+	}
+
+	private static class StringReader extends ColumnReader {
+
+		private int[] codes = new int[INITIAL_CAPACITY];
+
+		private final Map<String, Integer> index = new HashMap<>();
+
+		private final List<String> dictionary = new ArrayList<>();
+
+		@Override
+		void read(ResultSet rs, int columnIndex, int row) throws SQLException {
+			if (row == codes.length) {
+				codes = Arrays.copyOf(codes, codes.length << 1);
+			}
+
+			String value = rs.getString(columnIndex);
+
+			if (value == null) {
+				setNull(row);
+				return;
+			}
+
+			Integer code = index.get(value);
+
+			if (code == null) {
+				code = dictionary.size();
+				index.put(value, code);
+				dictionary.add(value);
+			}
+
+			codes[row] = code;
+		}
+
+		@Override
+		Column build(int rows) {
+			return new StringColumn(Arrays.copyOf(codes, rows), dictionary, getNulls(rows));
+		}
+
+	}
+
+	private static class ObjectReader extends ColumnReader {
+
+		private Object[] values = new Object[INITIAL_CAPACITY];
+
+		@Override
+		void read(ResultSet rs, int index, int row) throws SQLException {
+			if (row == values.length) {
+				values = Arrays.copyOf(values, values.length << 1);
+			}
+
+			values[row] = rs.getObject(index);
+
+			if (values[row] == null) {
+				setNull(row);
+			}
+		}
+
+		@Override
+		Column build(int rows) {
+			return new ObjectColumn(Arrays.copyOf(values, rows), getNulls(rows));
+		}
+
+	}
+
+}
@@ -0,0 +1,112 @@
+package org.springframework.data.jdbc.core;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.data.jdbc.repository.query.DefaultParametrizedQuery;
+import org.springframework.data.relational.core.mapping.IdGenerator;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+import org.springframework.data.relational.core.query.Query;
+import org.springframework.data.relational.core.sql.SqlIdentifier;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.CollectionUtils;
+
+/**
+ * Reads and writes the tables of a {@link JdbcAggregatePlusTemplate} column by
+ * column, straight between primitive arrays and JDBC, without creating
+ * entities or publishing lifecycle events.
+ */
+public class JdbcColumnarTemplate {
+
+	private final JdbcAggregatePlusTemplate template;
+
+	private final JdbcColumnInsertExecutor columnInsertExecutor;
+
+	private final JdbcColumnarExecutor columnarExecutor;
+
+	public JdbcColumnarTemplate(JdbcAggregatePlusTemplate template) {
+		Assert.notNull(template, "JdbcAggregatePlusTemplate must not be null");
+		this.template = template;
+		this.columnInsertExecutor = new JdbcColumnInsertExecutor(template.getMappingContext(), template.getConverter(),
+				template.getDialect(), template.getIdentifierAllocator(), template.getOperations());
+		this.columnarExecutor = new JdbcColumnarExecutor(template.getDialect(), template.getOperations());
+	}
+
+	/**
+	 * Insert the rows of {@code batch} with JDBC batches bound straight from its
+	 * arrays. Without an id column the ids come from the {@link IdGenerator} or
+	 * the database.
+	 *
+	 * @param entityClass
+	 * @param batch
+	 * @return number of inserted rows
+	 * @see JdbcColumnInsertExecutor
+	 */
+	public long insertColumns(Class<?> entityClass, ColumnBatch batch) {
+		Assert.notNull(batch, "ColumnBatch must not be null");
+
+		template.flush();
+
+		return template.getTransactionTemplate()
+				.execute(status -> columnInsertExecutor.insertColumns(entityClass, batch));
+	}
+
+	/**
+	 * Read the rows matching {@code query} column by column: integral and
+	 * floating point properties into primitive arrays, strings and enums
+	 * dictionary encoded, anything else as read by the driver. Without explicit
+	 * columns the eagerly loaded properties are read.
+	 *
+	 * @param query
+	 * @param entityClass
+	 * @return the rows by property name
+	 * @see ColumnarResult
+	 */
+	public ColumnarResult findColumns(Query query, Class<?> entityClass) {
+		RelationalPersistentEntity<?> persistentEntity = template.getRequiredEntity(entityClass);
+		SqlIdentifier tableName = query.getTable() != null ? query.getTable() : template.getTableName(entityClass);
+
+		List<String> properties = template.getSelectedProperties(query, entityClass);
+		List<Class<?>> types = new ArrayList<Class<?>>();
+
+		for (String property : properties) {
+			RelationalPersistentProperty persistentProperty = persistentEntity.getPersistentProperty(property);
+
+			types.add(persistentProperty != null ? persistentProperty.getActualType() : null);
+		}
+
+		DefaultParametrizedQuery operation = template.getSelectOperation(query, entityClass, tableName, entityClass);
+
+		// PostgreSQL streams a cursor only inside a transaction
+		return template.getTransactionTemplate().execute(status -> columnarExecutor.query(operation.getQuery(),
+				operation.getParameterSource(), properties, types));
+	}
+
+	/**
+	 * Ids of the rows matching {@code query}, read with
+	 * {@link java.sql.ResultSet#getLong(int)} into a single array.
+	 *
+	 * @param query
+	 * @param entityClass entity with an integral id
+	 * @return the ids in result order
+	 */
+	public long[] findIds(Query query, Class<?> entityClass) {
+		RelationalPersistentProperty idProperty = template.getRequiredEntity(entityClass).getRequiredIdProperty();
+		Class<?> idType = ClassUtils.resolvePrimitiveIfNecessary(idProperty.getActualType());
+
+		Assert.isTrue(Long.class == idType || Integer.class == idType || Short.class == idType,
+				() -> "Id of " + entityClass.getName() + " is not integral: " + idType.getName());
+
+		Assert.isTrue(CollectionUtils.isEmpty(query.getColumns()), "Query must not select columns");
+
+		SqlIdentifier tableName = query.getTable() != null ? query.getTable() : template.getTableName(entityClass);
+		DefaultParametrizedQuery operation = template.getSelectOperation(query.columns(idProperty.getName()),
+				entityClass, tableName, entityClass);
+
+		return template.getTransactionTemplate()
+				.execute(status -> columnarExecutor.queryLongs(operation.getQuery(), operation.getParameterSource()));
+	}
+
+}
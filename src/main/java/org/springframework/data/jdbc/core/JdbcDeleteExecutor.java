@@ -0,0 +1,295 @@
+package org.springframework.data.jdbc.core;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jdbc.repository.query.DefaultParametrizedQuery;
+import org.springframework.data.relational.core.mapping.ManyToMany;
+import org.springframework.data.relational.core.mapping.NamingStrategy;
+import org.springframework.data.relational.core.mapping.RelationalMappingContext;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.data.relational.core.query.Criteria;
+import org.springframework.data.relational.core.query.CriteriaDefinition;
+import org.springframework.data.relational.core.query.ExistsCriteria;
+import org.springframework.data.relational.core.sql.Column;
+import org.springframework.data.relational.core.sql.Conditions;
+import org.springframework.data.relational.core.sql.Delete;
+import org.springframework.data.relational.core.sql.IdentifierProcessing;
+import org.springframework.data.relational.core.sql.SQL;
+import org.springframework.data.relational.core.sql.SqlIdentifier;
+import org.springframework.data.relational.core.sql.StatementBuilder;
+import org.springframework.data.relational.core.sql.Table;
+import org.springframework.data.relational.core.sql.render.SqlRenderer;
+import org.springframework.data.util.Pair;
+import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.support.JdbcAccessor;
+import org.springframework.lang.Nullable;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+/**
+ * Set based {@code DELETE} of an entity table together with the rows of the
+ * {@link ManyToMany} join tables it owns. Used by the template and by derived
+ * {@code deleteBy} queries, callers provide the transaction.
+ */
+public class JdbcDeleteExecutor {
+
+	static final int IN_CLAUSE_CHUNK_SIZE = 500;
+
+	private final RelationalMappingContext context;
+
+	private final StatementMapper statementMapper;
+
+	private final NamedParameterJdbcOperations operations;
+
+	public JdbcDeleteExecutor(RelationalMappingContext context, StatementMapper statementMapper,
+			NamedParameterJdbcOperations operations) {
+		this.context = context;
+		this.statementMapper = statementMapper;
+		this.operations = operations;
+	}
+
+	/**
+	 * Delete the rows of {@code entityClass} matching {@code criteria}. Join rows
+	 * are removed first with one statement per join table. When the criteria
+	 * itself goes through a relation (e.g. {@code roles.name}) removing join rows
+	 * first would change its result, so the matching ids are read once and
+	 * deleted in chunks.
+	 *
+	 * @param criteria
+	 * @param entityClass
+	 * @param tableName
+	 * @return number of deleted rows of {@code entityClass}
+	 */
+	public int delete(@Nullable CriteriaDefinition criteria, Class<?> entityClass, SqlIdentifier tableName) {
+		StatementMapper statementMapper = this.statementMapper.forType(entityClass);
+
+		StatementMapper.DeleteSpec deleteSpec = statementMapper.createDelete(tableName);
+
+		if (criteria != null) {
+			deleteSpec = deleteSpec.withCriteria(criteria);
+		}
+
+		DefaultParametrizedQuery operation = statementMapper.getMappedObject(deleteSpec);
+		List<Pair<String, String>> joinTables = getJoinTables(entityClass);
+
+		if (joinTables.isEmpty()) {
+			return operations.update(operation.getQuery(), operation.getParameterSource());
+		}
+
+		if (criteria == null || criteria.isEmpty()) {
+			for (Pair<String, String> joinTable : joinTables) {
+				operations.update(String.format(JdbcAggregateTemplate.manyToManyDeleteAllSqlFormat,
+						joinTable.getFirst()), new MapSqlParameterSource());
+			}
+
+			return operations.update(operation.getQuery(), operation.getParameterSource());
+		}
+
+		DefaultParametrizedQuery idQuery = getIdQuery(criteria, entityClass, tableName);
+
+		if (isRelationDependent(criteria)) {
+			List<Object> ids = operations.query(idQuery.getQuery(), idQuery.getParameterSource(),
+					(rs, rowNum) -> rs.getObject(1));
+
+			return deleteByIds(ids, entityClass, tableName);
+		}
+
+		for (Pair<String, String> joinTable : joinTables) {
+			operations.update(String.format(JdbcAggregateTemplate.manyToManyDeleteInSqlFormat, joinTable.getFirst(),
+					joinTable.getSecond(), idQuery.getQuery()), idQuery.getParameterSource());
+		}
+
+		return operations.update(operation.getQuery(), operation.getParameterSource());
+	}
+
+	/**
+	 * Delete rows of {@code entityClass} and their join rows by id, with one
+	 * {@code IN} statement per table and chunk.
+	 *
+	 * @param ids
+	 * @param entityClass
+	 * @param tableName
+	 * @return number of deleted rows of {@code entityClass}
+	 */
+	public int deleteByIds(List<?> ids, Class<?> entityClass, SqlIdentifier tableName) {
+		RelationalPersistentEntity<?> persistentEntity = context.getRequiredPersistentEntity(entityClass);
+		List<Pair<String, String>> joinTables = getJoinTables(entityClass);
+
+		Table table = Table.create(tableName);
+		Column idColumn = table.column(persistentEntity.getRequiredIdProperty().getColumnName());
+
+		Delete delete = StatementBuilder.delete(table).where(Conditions.in(idColumn, SQL.bindMarker(":ids"))).build();
+		String deleteSql = SqlRenderer.create(statementMapper.getRenderContext()).render(delete);
+
+		int count = 0;
+
+		for (int i = 0; i < ids.size(); i += IN_CLAUSE_CHUNK_SIZE) {
+			MapSqlParameterSource ps = new MapSqlParameterSource("ids",
+					ids.subList(i, Math.min(i + IN_CLAUSE_CHUNK_SIZE, ids.size())));
+
+			for (Pair<String, String> joinTable : joinTables) {
+				operations.update(String.format(JdbcAggregateTemplate.manyToManyDeleteInSqlFormat,
+						joinTable.getFirst(), joinTable.getSecond(), ":ids"), ps);
+			}
+
+			count += operations.update(deleteSql, ps);
+		}
+
+		return count;
+	}
+
+	/**
+	 * Join tables owned by {@code entityClass}, as pairs of table and the column
+	 * referencing {@code entityClass}.
+	 *
+	 * @param entityClass
+	 * @return
+	 */
+	public List<Pair<String, String>> getJoinTables(Class<?> entityClass) {
+		List<Pair<String, String>> joinTables = new ArrayList<Pair<String, String>>();
+		NamingStrategy namingStrategy = context.getNamingStrategy();
+
+		for (Field field : entityClass.getDeclaredFields()) {
+			ManyToMany mtm = AnnotatedElementUtils.findMergedAnnotation(field, ManyToMany.class);
+
+			if (mtm != null && StringUtils.hasText(mtm.column()) && StringUtils.hasText(mtm.inverseColumn())
+					&& StringUtils.hasText(mtm.table())) {
+				joinTables.add(Pair.of(mtm.table(), namingStrategy.getColumnName(mtm.column())));
+			}
+		}
+
+		return joinTables;
+	}
+
+	/**
+	 * {@code SELECT DISTINCT id} of the rows matching {@code criteria}, joins
+	 * included.
+	 *
+	 * @param criteria
+	 * @param entityClass
+	 * @param tableName
+	 * @return
+	 */
+	public DefaultParametrizedQuery getIdQuery(CriteriaDefinition criteria, Class<?> entityClass,
+			SqlIdentifier tableName) {
+		RelationalPersistentEntity<?> persistentEntity = context.getRequiredPersistentEntity(entityClass);
+		StatementMapper statementMapper = this.statementMapper.forType(entityClass);
+
+		StatementMapper.SelectSpec selectSpec = statementMapper.createSelect(tableName)
+				.doWithTable((table, spec) -> spec
+						.withProjection(table.column(persistentEntity.getRequiredIdProperty().getName())))
+				.withCriteria(criteria).distinct();
+
+		return statementMapper.getMappedObject(selectSpec);
+	}
+
+	/**
+	 * Next keyset page of ids matching {@code criteria}: ids greater than
+	 * {@code after} in ascending order, at most {@code limit}.
+	 *
+	 * @param criteria
+	 * @param after    last id of the previous page, {@literal null} for the first
+	 * @param limit
+	 * @param entityClass
+	 * @param tableName
+	 * @return
+	 */
+	public List<Object> getNextIds(@Nullable CriteriaDefinition criteria, @Nullable Object after, int limit,
+			Class<?> entityClass, SqlIdentifier tableName) {
+		RelationalPersistentEntity<?> persistentEntity = context.getRequiredPersistentEntity(entityClass);
+		StatementMapper statementMapper = this.statementMapper.forType(entityClass);
+		String idProperty = persistentEntity.getRequiredIdProperty().getName();
+
+		CriteriaDefinition page = criteria;
+
+		if (after != null) {
+			Criteria keyset = Criteria.where(idProperty).greaterThan(after);
+			page = criteria == null || criteria.isEmpty() ? keyset : keyset.and(criteria);
+		}
+
+		StatementMapper.SelectSpec selectSpec = statementMapper.createSelect(tableName)
+				.doWithTable((table, spec) -> spec.withProjection(table.column(idProperty))).distinct()
+				.withSort(Sort.by(idProperty)).limit(limit);
+
+		if (page != null && !page.isEmpty()) {
+			selectSpec = selectSpec.withCriteria(page);
+		}
+
+		DefaultParametrizedQuery idQuery = statementMapper.getMappedObject(selectSpec);
+
+		return operations.query(idQuery.getQuery(), idQuery.getParameterSource(), (rs, rowNum) -> rs.getObject(1));
+	}
+
+	/**
+	 * Default transaction handling for callers that only know the operations: a
+	 * {@link DataSourceTransactionManager} on their {@link DataSource}, which
+	 * joins an existing transaction on that data source.
+	 *
+	 * @param operations
+	 * @return
+	 */
+	public static TransactionTemplate createTransactionTemplate(NamedParameterJdbcOperations operations) {
+		return createTransactionTemplate(operations, null);
+	}
+
+	/**
+	 * Transaction handling on the given {@link PlatformTransactionManager}, the
+	 * default of {@link #createTransactionTemplate(NamedParameterJdbcOperations)}
+	 * if there is none.
+	 *
+	 * @param operations
+	 * @param transactionManager the application's transaction manager, if any
+	 * @return
+	 */
+	public static TransactionTemplate createTransactionTemplate(NamedParameterJdbcOperations operations,
+			@Nullable PlatformTransactionManager transactionManager) {
+		if (transactionManager != null) {
+			return new TransactionTemplate(transactionManager);
+		}
+
+		JdbcOperations jdbcOperations = operations.getJdbcOperations();
+
+		if (!(jdbcOperations instanceof JdbcAccessor)) {
+			throw new IllegalStateException("Cannot determine DataSource, set a PlatformTransactionManager");
+		}
+
+		DataSource dataSource = ((JdbcAccessor) jdbcOperations).getDataSource();
+
+		return new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+	}
+
+	private boolean isRelationDependent(@Nullable CriteriaDefinition criteria) {
+		if (criteria == null || criteria.isEmpty()) {
+			return false;
+		}
+
+		if (criteria instanceof ExistsCriteria || isRelationDependent(criteria.getPrevious())) {
+			return true;
+		}
+
+		if (criteria.isGroup()) {
+			for (CriteriaDefinition group : criteria.getGroup()) {
+				if (isRelationDependent(group)) {
+					return true;
+				}
+			}
+
+			return false;
+		}
+
+		SqlIdentifier column = criteria.getColumn();
+
+		return column != null && column.getReference(IdentifierProcessing.NONE).indexOf(".") != -1;
+	}
+
+}
@@ -0,0 +1,312 @@
+package org.springframework.data.jdbc.core;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.StandardCharsets;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.Base64;
+import java.util.List;
+
+import org.springframework.data.relational.core.dialect.Dialect;
+import org.springframework.data.relational.core.dialect.MySqlDialect;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.PreparedStatementCreatorFactory;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
+import org.springframework.jdbc.core.namedparam.NamedParameterUtils;
+import org.springframework.jdbc.core.namedparam.ParsedSql;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+/**
+ * Writes the rows of a query as CSV or JSON lines straight from the JDBC
+ * cursor, without mapping them to entities. Each row is formatted into a
+ * reused buffer and encoded as UTF-8 into a reused direct {@link ByteBuffer}
+ * that is drained to the channel whenever it fills up, so memory stays
+ * constant for any number of rows.
+ */
+public class JdbcExportExecutor {
+
+	private static final int FETCH_SIZE = 1000;
+
+	private static final int BUFFER_SIZE = 1 << 16;
+
+	private final Dialect dialect;
+
+	private final NamedParameterJdbcOperations operations;
+
+	public JdbcExportExecutor(Dialect dialect, NamedParameterJdbcOperations operations) {
+		this.dialect = dialect;
+		this.operations = operations;
+	}
+
+	/**
+	 * @param sql         the query
+	 * @param parameters  its parameters
+	 * @param columnNames names written for the selected columns, in order
+	 * @param channel     target, not closed
+	 * @param format
+	 * @return number of exported rows
+	 */
+	public long export(String sql, SqlParameterSource parameters, List<String> columnNames,
+			WritableByteChannel channel, ExportFormat format) {
+		RowWriter writer = new RowWriter(channel, format, columnNames);
+
+		if (format == ExportFormat.CSV) {
+			writer.writeHeader();
+		}
+
+		operations.getJdbcOperations().query(getStatementCreator(dialect, sql, parameters), writer);
+		writer.flush();
+
+		return writer.rows;
+	}
+
+	/**
+	 * Statement with a fetch size, so that drivers stream the result instead of
+	 * reading it into memory. PostgreSQL does so only inside a transaction.
+	 */
+	static PreparedStatementCreator getStatementCreator(Dialect dialect, String sql, SqlParameterSource parameters) {
+		ParsedSql parsedSql = NamedParameterUtils.parseSqlStatement(sql);
+		PreparedStatementCreatorFactory factory = new PreparedStatementCreatorFactory(
+				NamedParameterUtils.substituteNamedParameters(parsedSql, parameters),
+				NamedParameterUtils.buildSqlParameterList(parsedSql, parameters));
+		PreparedStatementCreator creator = factory
+				.newPreparedStatementCreator(NamedParameterUtils.buildValueArray(parsedSql, parameters, null));
+
+		// MySQL Connector/J streams row by row only with MIN_VALUE
+		int fetchSize = dialect instanceof MySqlDialect ? Integer.MIN_VALUE : FETCH_SIZE;
+
+		return con -> {
+			PreparedStatement statement = JdbcAsyncExecutor.register(creator.createPreparedStatement(con));
+			statement.setFetchSize(fetchSize);
+			return statement;
+		};
+	}
+
+	private static class RowWriter implements RowCallbackHandler {
+
+		private final WritableByteChannel channel;
+
+		private final ExportFormat format;
+
+		private final List<String> columnNames;
+
+		private final StringBuilder row = new StringBuilder(256);
+
+		private final CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder();
+
+		private final ByteBuffer bytes = ByteBuffer.allocateDirect(BUFFER_SIZE);
+
+		private long rows = 0;
+
+		RowWriter(WritableByteChannel channel, ExportFormat format, List<String> columnNames) {
+			this.channel = channel;
+			this.format = format;
+			this.columnNames = columnNames;
+		}
+
+		void writeHeader() {
+			for (int i = 0; i < columnNames.size(); i++) {
+				if (i > 0) {
+					row.append(',');
+				}
+
+				appendCsv(columnNames.get(i));
+			}
+
+			endRow();
+		}
+
+		@Override
+		public void processRow(ResultSet rs) throws SQLException {
+			if (format == ExportFormat.CSV) {
+				for (int i = 0; i < columnNames.size(); i++) {
+					if (i > 0) {
+						row.append(',');
+					}
+
+					Object value = getValue(rs, i + 1);
+
+					if (value != null) {
+						appendCsv(value.toString());
+					}
+				}
+			} else {
+				row.append('{');
+
+				for (int i = 0; i < columnNames.size(); i++) {
+					if (i > 0) {
+						row.append(',');
+					}
+
+					appendJson(columnNames.get(i));
+					row.append(':');
+
+					Object value = getValue(rs, i + 1);
+
+					if (value == null) {
+						row.append("null");
+					} else if (value instanceof Number || value instanceof Boolean) {
+						row.append(value);
+					} else {
+						appendJson(value.toString());
+					}
+				}
+
+				row.append('}');
+			}
+
+			endRow();
+			rows++;
+		}
+
+		void flush() {
+			bytes.flip();
+			drain();
+			bytes.clear();
+		}
+
+		/**
+		 * Column value in a text friendly type: ISO dates, Base64 for binary.
+		 */
+		private Object getValue(ResultSet rs, int index) throws SQLException {
+			Object value = rs.getObject(index);
+
+			if (value instanceof Timestamp) {
+				return ((Timestamp) value).toLocalDateTime();
+			}
+
+			if (value instanceof Date) {
+				return ((Date) value).toLocalDate();
+			}
+
+			if (value instanceof Time) {
+				return ((Time) value).toLocalTime();
+			}
+
+			if (value instanceof Clob) {
+				return ((Clob) value).getSubString(1, (int) ((Clob) value).length());
+			}
+
+			if (value instanceof Blob) {
+				value = ((Blob) value).getBytes(1, (int) ((Blob) value).length());
+			}
+
+			if (value instanceof byte[]) {
+				return Base64.getEncoder().encodeToString((byte[]) value);
+			}
+
+			return value;
+		}
+
+		private void appendCsv(String value) {
+			boolean quote = false;
+
+			for (int i = 0; i < value.length() && !quote; i++) {
+				char c = value.charAt(i);
+				quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+			}
+
+			if (!quote) {
+				row.append(value);
+				return;
+			}
+
+			row.append('"');
+
+			for (int i = 0; i < value.length(); i++) {
+				char c = value.charAt(i);
+
+				if (c == '"') {
+					row.append('"');
+				}
+
+				row.append(c);
+			}
+
+			row.append('"');
+		}
+
+		private void appendJson(String value) {
+			row.append('"');
+
+			for (int i = 0; i < value.length(); i++) {
+				char c = value.charAt(i);
+
+				switch (c) {
+				case '"':
+					row.append("\\\"");
+					break;
+				case '\\':
+					row.append("\\\\");
+					break;
+				case '\n':
+					row.append("\\n");
+					break;
+				case '\r':
+					row.append("\\r");
+					break;
+				case '\t':
+					row.append("\\t");
+					break;
+				default:
+					if (c < 0x20) {
+						row.append(String.format("\\u%04x", (int) c));
+					} else {
+						row.append(c);
+					}
+				}
+			}
+
+			row.append('"');
+		}
+
+		private void endRow() {
+			row.append(format == ExportFormat.CSV ? "\r\n" : "\n");
+
+			CharBuffer chars = CharBuffer.wrap(row);
+
+			while (true) {
+				CoderResult result = encoder.encode(chars, bytes, true);
+
+				if (result.isOverflow()) {
+					flush();
+					continue;
+				}
+
+				if (result.isError()) {
+					throw new IllegalStateException("Cannot encode row " + rows + ": " + result);
+				}
+
+				break;
+			}
+
+			encoder.reset();
+			row.setLength(0);
+		}
+
+		private void drain() {
+			try {
+				while (bytes.hasRemaining()) {
+					channel.write(bytes);
+				}
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		}
+
+	}
+
+}
@@ -0,0 +1,458 @@
+package org.springframework.data.jdbc.core;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.springframework.core.convert.ConversionService;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.jdbc.core.convert.JdbcConverter;
+import org.springframework.data.jdbc.core.convert.JdbcValue;
+import org.springframework.data.jdbc.support.JdbcUtil;
+import org.springframework.data.relational.core.dialect.Dialect;
+import org.springframework.data.relational.core.dialect.H2Dialect;
+import org.springframework.data.relational.core.dialect.MySqlDialect;
+import org.springframework.data.relational.core.dialect.PostgresDialect;
+import org.springframework.data.relational.core.mapping.RelationalMappingContext;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+import org.springframework.data.relational.core.sql.IdentifierProcessing;
+import org.springframework.data.relational.core.sql.SqlIdentifier;
+import org.springframework.format.datetime.standard.DateTimeFormatterRegistrar;
+import org.springframework.format.support.DefaultFormattingConversionService;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.lang.Nullable;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.StringUtils;
+
+/**
+ * Import of a CSV file with a header row into the table of an entity. Header
+ * names are matched against property and column names of the entity, other
+ * columns of the file are skipped.
+ * <p>
+ * Where the dialect has a native bulk load and no id has to be assigned on
+ * the client, the file is handed to it in one statement: {@code COPY FROM
+ * STDIN} on PostgreSQL, {@code LOAD DATA LOCAL INFILE} on MySQL and
+ * {@code CSVREAD} on H2. If that fails, nothing is loaded and the file is
+ * imported again in chunks of JDBC batches, which also reports the rows that
+ * cannot be converted or inserted.
+ * <p>
+ * Both paths read empty fields as {@literal null} and take the values
+ * literally, without backslash escapes. Dates and times are expected in ISO
+ * format and binary columns in Base64, as written by
+ * {@link JdbcExportExecutor}.
+ */
+public class JdbcImportExecutor {
+
+	private static final String PG_CONNECTION = "org.postgresql.PGConnection";
+
+	private static final ConversionService CONVERSION_SERVICE = createConversionService();
+
+	private final RelationalMappingContext context;
+
+	private final JdbcConverter converter;
+
+	private final Dialect dialect;
+
+	private final IdentifierProcessing identifierProcessing;
+
+	private final IdentifierAllocator identifierAllocator;
+
+	private final NamedParameterJdbcOperations operations;
+
+	public JdbcImportExecutor(RelationalMappingContext context, JdbcConverter converter, Dialect dialect,
+			IdentifierAllocator identifierAllocator, NamedParameterJdbcOperations operations) {
+		this.context = context;
+		this.converter = converter;
+		this.dialect = dialect;
+		this.identifierProcessing = dialect.getIdentifierProcessing();
+		this.identifierAllocator = identifierAllocator;
+		this.operations = operations;
+	}
+
+	/**
+	 * @param path
+	 * @param entityClass
+	 * @param options
+	 * @param transactionTemplate transaction of each chunk
+	 * @return number of imported rows
+	 */
+	public long importFile(Path path, Class<?> entityClass, ImportOptions options,
+			TransactionTemplate transactionTemplate) {
+		RelationalPersistentEntity<?> persistentEntity = context.getRequiredPersistentEntity(entityClass);
+
+		String[] header;
+
+		try (CsvReader reader = new CsvReader(path, options.getCharset(), options.getDelimiter())) {
+			header = reader.next();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+
+		if (header == null) {
+			return 0;
+		}
+
+		List<EntityColumn> properties = getProperties(persistentEntity, header);
+
+		// client side ids rule out the native load
+		boolean assignIds = properties.stream().noneMatch(p -> p != null && p.isIdProperty())
+				&& identifierAllocator.hasGenerator(entityClass);
+
+		// so do Base64 fields, the native loads store them as text
+		boolean binary = properties.stream().anyMatch(p -> p != null && p.getProperty().getType() == byte[].class);
+
+		if (options.isFastPath() && !assignIds && !binary) {
+			Long loaded = null;
+
+			try {
+				loaded = transactionTemplate
+						.execute(status -> load(path, persistentEntity, header, properties, options));
+			} catch (DataAccessException e) {
+				// fall back to chunks, which report the offending rows
+			}
+
+			if (loaded != null) {
+				if (options.getListener() != null) {
+					options.getListener().onChunk(1, loaded.intValue(), loaded);
+				}
+
+				return loaded;
+			}
+		}
+
+		try {
+			return importInChunks(path, persistentEntity, properties, assignIds, options, transactionTemplate);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * Native bulk load of the dialect.
+	 *
+	 * @return number of loaded rows, {@literal null} if there is none.
+	 */
+	@Nullable
+	private Long load(Path path, RelationalPersistentEntity<?> persistentEntity, String[] header,
+			List<EntityColumn> properties, ImportOptions options) {
+		String table = persistentEntity.getTableName().toSql(identifierProcessing);
+
+		if (dialect instanceof PostgresDialect && !properties.contains(null)
+				&& ClassUtils.isPresent(PG_CONNECTION, getClass().getClassLoader())) {
+			List<SqlIdentifier> columns = properties.stream().map(EntityColumn::getColumnName)
+					.collect(Collectors.toList());
+			String sql = String.format("COPY %s (%s) FROM STDIN WITH (FORMAT csv, HEADER true, DELIMITER '%s', "
+					+ "ENCODING '%s')", table, getColumnList(columns), options.getDelimiter(),
+					options.getCharset().name());
+
+			return operations.getJdbcOperations().execute((ConnectionCallback<Long>) con -> copyIn(con, sql, path,
+					options));
+		}
+
+		if (dialect instanceof MySqlDialect) {
+			List<String> targets = new ArrayList<>();
+			List<String> assignments = new ArrayList<>();
+
+			// LOAD DATA reads an empty field as '' and not as NULL
+			for (int i = 0; i < properties.size(); i++) {
+				targets.add("@c" + i);
+
+				if (properties.get(i) != null) {
+					assignments.add(properties.get(i).getColumnName().toSql(identifierProcessing) + " = NULLIF(@c" + i
+							+ ", '')");
+				}
+			}
+
+			String sql = String.format("LOAD DATA LOCAL INFILE '%s' INTO TABLE %s CHARACTER SET '%s' "
+					+ "FIELDS TERMINATED BY '%s' OPTIONALLY ENCLOSED BY '\"' ESCAPED BY '' IGNORE 1 LINES (%s) SET %s",
+					escape(path.toAbsolutePath().toString()), table, getMySqlCharset(options), options.getDelimiter(),
+					String.join(", ", targets), String.join(", ", assignments));
+
+			return (long) operations.getJdbcOperations().update(sql);
+		}
+
+		if (dialect instanceof H2Dialect) {
+			List<String> columns = new ArrayList<>();
+			List<String> fields = new ArrayList<>();
+
+			for (int i = 0; i < properties.size(); i++) {
+				if (properties.get(i) != null) {
+					columns.add(properties.get(i).getColumnName().toSql(identifierProcessing));
+					fields.add("\"" + header[i].replace("\"", "\"\"") + "\"");
+				}
+			}
+
+			String csvOptions = "charset=" + options.getCharset().name() + " fieldSeparator=" + options.getDelimiter()
+					+ " caseSensitiveColumnNames=true";
+
+			String sql = String.format("INSERT INTO %s (%s) SELECT %s FROM CSVREAD('%s', NULL, '%s')", table,
+					String.join(", ", columns), String.join(", ", fields),
+					path.toAbsolutePath().toString().replace("'", "''"), csvOptions);
+
+			return (long) operations.getJdbcOperations().update(sql);
+		}
+
+		return null;
+	}
+
+	private long copyIn(Connection connection, String sql, Path path, ImportOptions options) {
+		try (Reader reader = Files.newBufferedReader(path, options.getCharset())) {
+			// the PostgreSQL driver is optional, its CopyManager is used reflectively
+			Object pgConnection = connection.unwrap(ClassUtils.forName(PG_CONNECTION, getClass().getClassLoader()));
+			Object copyManager = pgConnection.getClass().getMethod("getCopyAPI").invoke(pgConnection);
+			Method copyIn = copyManager.getClass().getMethod("copyIn", String.class, Reader.class);
+
+			return (Long) copyIn.invoke(copyManager, sql, reader);
+		} catch (Exception e) {
+			throw new DataAccessResourceFailureException("COPY FROM STDIN failed", e);
+		}
+	}
+
+	private long importInChunks(Path path, RelationalPersistentEntity<?> persistentEntity,
+			List<EntityColumn> properties, boolean assignIds, ImportOptions options,
+			TransactionTemplate transactionTemplate) throws IOException {
+		List<SqlIdentifier> columns = properties.stream().filter(p -> p != null).map(EntityColumn::getColumnName)
+				.collect(Collectors.toList());
+		RelationalPersistentProperty idProperty = persistentEntity.getRequiredIdProperty();
+
+		if (assignIds) {
+			columns.add(idProperty.getColumnName());
+		}
+
+		List<String> markers = new ArrayList<>();
+
+		for (int i = 0; i < columns.size(); i++) {
+			markers.add(":" + getParameterName(i));
+		}
+
+		String sql = String.format("INSERT INTO %s (%s) VALUES (%s)",
+				persistentEntity.getTableName().toSql(identifierProcessing), getColumnList(columns),
+				String.join(", ", markers));
+
+		Chunk chunk = new Chunk(options);
+		long total = 0;
+		int chunks = 0;
+
+		try (CsvReader reader = new CsvReader(path, options.getCharset(), options.getDelimiter())) {
+			reader.next();
+
+			String[] values;
+
+			while ((values = reader.next()) != null) {
+				if (values.length == 1 && values[0].isEmpty()) {
+					continue;
+				}
+
+				try {
+					MapSqlParameterSource ps = getParameterSource(values, properties);
+
+					if (assignIds) {
+						addValue(ps, columns.size() - 1, idProperty,
+								identifierAllocator.nextId(persistentEntity.getType()));
+					}
+
+					chunk.add(reader.getLine(), values, ps);
+				} catch (RuntimeException e) {
+					chunk.reject(reader.getLine(), values, e);
+				}
+
+				if (chunk.size() >= options.getChunkSize()) {
+					total += chunk.write(sql, transactionTemplate, options.getListener(), ++chunks, total);
+				}
+			}
+
+			if (chunk.size() > 0) {
+				total += chunk.write(sql, transactionTemplate, options.getListener(), ++chunks, total);
+			}
+		}
+
+		return total;
+	}
+
+	/**
+	 * Entity column of each header column, {@literal null} for columns of the file
+	 * that are not mapped.
+	 */
+	private List<EntityColumn> getProperties(RelationalPersistentEntity<?> persistentEntity, String[] header) {
+		List<EntityColumn> candidates = EntityColumn.of(context, persistentEntity);
+		List<EntityColumn> properties = new ArrayList<>();
+
+		for (String name : header) {
+			String trimmed = name.trim();
+
+			properties.add(candidates.stream()
+					.filter(p -> p.getPath().equalsIgnoreCase(trimmed)
+							|| p.getColumnName().getReference().equalsIgnoreCase(trimmed))
+					.findFirst().orElse(null));
+		}
+
+		if (properties.stream().allMatch(p -> p == null)) {
+			throw new IllegalArgumentException(
+					"No column of the file header " + String.join(",", header) + " maps to " + persistentEntity);
+		}
+
+		return properties;
+	}
+
+	private MapSqlParameterSource getParameterSource(String[] values, List<EntityColumn> properties) {
+		MapSqlParameterSource ps = new MapSqlParameterSource();
+		int index = 0;
+
+		for (int i = 0; i < properties.size(); i++) {
+			if (properties.get(i) == null) {
+				continue;
+			}
+
+			RelationalPersistentProperty property = properties.get(i).getProperty();
+
+			String value = i < values.length && StringUtils.hasLength(values[i]) ? values[i] : null;
+
+			addValue(ps, index++, property, CONVERSION_SERVICE.convert(value, property.getType()));
+		}
+
+		return ps;
+	}
+
+	private void addValue(MapSqlParameterSource ps, int index, RelationalPersistentProperty property,
+			@Nullable Object value) {
+		JdbcValue jdbcValue = converter.writeJdbcValue(value, converter.getColumnType(property),
+				converter.getSqlType(property));
+
+		ps.addValue(getParameterName(index), jdbcValue.getValue(), JdbcUtil.sqlTypeFor(jdbcValue.getJdbcType()));
+	}
+
+	private String getColumnList(List<SqlIdentifier> columns) {
+		return columns.stream().map(c -> c.toSql(identifierProcessing))
+				.collect(Collectors.joining(", "));
+	}
+
+	private static String getParameterName(int index) {
+		return "p" + index;
+	}
+
+	private static ConversionService createConversionService() {
+		DefaultFormattingConversionService conversionService = new DefaultFormattingConversionService(false);
+
+		DateTimeFormatterRegistrar registrar = new DateTimeFormatterRegistrar();
+		registrar.setUseIsoFormat(true);
+		registrar.registerFormatters(conversionService);
+
+		conversionService.addConverter(String.class, Date.class,
+				source -> Timestamp.valueOf(source.indexOf('T') < 0 ? LocalDate.parse(source).atStartOfDay()
+						: LocalDateTime.parse(source)));
+		conversionService.addConverter(String.class, byte[].class, source -> Base64.getDecoder().decode(source));
+
+		return conversionService;
+	}
+
+	private static String getMySqlCharset(ImportOptions options) {
+		String name = options.getCharset().name().toLowerCase();
+
+		return "utf-8".equals(name) ? "utf8mb4" : name.replace("-", "");
+	}
+
+	/**
+	 * MySQL string literal, where the backslash escapes.
+	 */
+	private static String escape(String literal) {
+		return literal.replace("\\", "\\\\").replace("'", "''");
+	}
+
+	/**
+	 * Converted rows of one chunk with their position in the file.
+	 */
+	private class Chunk {
+
+		private final ImportOptions options;
+
+		private final List<Long> lines = new ArrayList<>();
+
+		private final List<String[]> values = new ArrayList<>();
+
+		private final List<SqlParameterSource> parameterSources = new ArrayList<>();
+
+		private long errors = 0;
+
+		Chunk(ImportOptions options) {
+			this.options = options;
+		}
+
+		int size() {
+			return parameterSources.size();
+		}
+
+		void add(long line, String[] row, SqlParameterSource parameterSource) {
+			lines.add(line);
+			values.add(row);
+			parameterSources.add(parameterSource);
+		}
+
+		void reject(long line, String[] row, Exception error) {
+			if (options.getErrorHandler() != null) {
+				options.getErrorHandler().onError(line, row, error);
+			}
+
+			if (++errors > options.getMaxErrors()) {
+				throw new IllegalArgumentException("Line " + line + ": " + error.getMessage(), error);
+			}
+		}
+
+		/**
+		 * Insert the chunk as one batch. A failed batch is retried row by row to
+		 * find and reject the offending rows.
+		 */
+		int write(String sql, TransactionTemplate transactionTemplate, @Nullable BulkProgressListener listener,
+				int chunk, long total) {
+			int written;
+
+			try {
+				transactionTemplate.execute(status -> operations.batchUpdate(sql,
+						parameterSources.toArray(new SqlParameterSource[parameterSources.size()])));
+				written = parameterSources.size();
+			} catch (DataAccessException e) {
+				written = 0;
+
+				for (int i = 0; i < parameterSources.size(); i++) {
+					SqlParameterSource parameterSource = parameterSources.get(i);
+
+					try {
+						transactionTemplate.execute(status -> operations.update(sql, parameterSource));
+						written++;
+					} catch (DataAccessException rowError) {
+						reject(lines.get(i), values.get(i), rowError);
+					}
+				}
+			}
+
+			lines.clear();
+			values.clear();
+			parameterSources.clear();
+
+			if (listener != null) {
+				listener.onChunk(chunk, written, total + written);
+			}
+
+			return written;
+		}
+
+	}
+
+}
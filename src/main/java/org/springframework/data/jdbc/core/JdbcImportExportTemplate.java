@@ -0,0 +1,111 @@
+package org.springframework.data.jdbc.core;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.data.jdbc.repository.query.DefaultParametrizedQuery;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+import org.springframework.data.relational.core.query.Query;
+import org.springframework.data.relational.core.sql.SqlIdentifier;
+import org.springframework.util.Assert;
+
+/**
+ * Moves the rows of the tables of a {@link JdbcAggregatePlusTemplate} between
+ * files and the database in bulk, without creating entities or publishing
+ * lifecycle events.
+ */
+public class JdbcImportExportTemplate {
+
+	private final JdbcAggregatePlusTemplate template;
+
+	private final JdbcImportExecutor importExecutor;
+
+	private final JdbcExportExecutor exportExecutor;
+
+	public JdbcImportExportTemplate(JdbcAggregatePlusTemplate template) {
+		Assert.notNull(template, "JdbcAggregatePlusTemplate must not be null");
+		this.template = template;
+		this.importExecutor = new JdbcImportExecutor(template.getMappingContext(), template.getConverter(),
+				template.getDialect(), template.getIdentifierAllocator(), template.getOperations());
+		this.exportExecutor = new JdbcExportExecutor(template.getDialect(), template.getOperations());
+	}
+
+	public long importFile(Path path, Class<?> entityClass) {
+		return importFile(path, entityClass, ImportOptions.builder().build());
+	}
+
+	/**
+	 * Import the CSV file {@code path}, whose header names properties or columns
+	 * of {@code entityClass}, through the native bulk load of the dialect when
+	 * possible, otherwise in chunks of JDBC batches with a transaction each.
+	 *
+	 * @param path
+	 * @param entityClass
+	 * @param options
+	 * @return number of imported rows
+	 * @see JdbcImportExecutor
+	 */
+	public long importFile(Path path, Class<?> entityClass, ImportOptions options) {
+		Assert.notNull(path, "Path must not be null");
+		Assert.notNull(options, "ImportOptions must not be null");
+		Assert.isTrue(options.getChunkSize() > 0, "Chunk size must be greater than 0");
+
+		template.flush();
+
+		return importExecutor.importFile(path, entityClass, options, template.getChunkTransactionTemplate());
+	}
+
+	public long exportTo(Query query, Class<?> entityClass, Path path, ExportFormat format) {
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+				StandardOpenOption.TRUNCATE_EXISTING)) {
+			return exportTo(query, entityClass, channel, format);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * Write the rows matching {@code query} to {@code channel}, read from a
+	 * streaming cursor and formatted without creating entities. Without explicit
+	 * columns the eagerly loaded columns of the entity are exported, named by
+	 * their column names. A CSV export can be read back with
+	 * {@link #importFile(Path, Class)}.
+	 *
+	 * @param query
+	 * @param entityClass
+	 * @param channel     not closed
+	 * @param format
+	 * @return number of exported rows
+	 * @see JdbcExportExecutor
+	 */
+	public long exportTo(Query query, Class<?> entityClass, WritableByteChannel channel, ExportFormat format) {
+		Assert.notNull(channel, "Channel must not be null");
+		Assert.notNull(format, "ExportFormat must not be null");
+
+		RelationalPersistentEntity<?> persistentEntity = template.getRequiredEntity(entityClass);
+		SqlIdentifier tableName = query.getTable() != null ? query.getTable() : template.getTableName(entityClass);
+
+		List<String> properties = template.getSelectedProperties(query, entityClass);
+		List<String> columnNames = new ArrayList<String>();
+
+		for (String property : properties) {
+			RelationalPersistentProperty persistentProperty = persistentEntity.getPersistentProperty(property);
+
+			columnNames.add(persistentProperty != null ? persistentProperty.getColumnName().getReference() : property);
+		}
+
+		DefaultParametrizedQuery operation = template.getSelectOperation(query, entityClass, tableName, entityClass);
+
+		// PostgreSQL streams a cursor only inside a transaction
+		return template.getTransactionTemplate().execute(status -> exportExecutor.export(operation.getQuery(),
+				operation.getParameterSource(), columnNames, channel, format));
+	}
+
+}
@@ -0,0 +1,148 @@
+package org.springframework.data.jdbc.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import org.springframework.data.jdbc.core.convert.JdbcConverter;
+import org.springframework.data.jdbc.core.convert.JdbcValue;
+import org.springframework.data.jdbc.support.JdbcUtil;
+import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.data.relational.core.dialect.Dialect;
+import org.springframework.data.relational.core.mapping.RelationalMappingContext;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+import org.springframework.data.relational.core.sql.IdentifierProcessing;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.util.Assert;
+
+/**
+ * Plain JDBC batch {@code INSERT} of entities whose ids are already assigned,
+ * so no generated keys have to be read back.
+ */
+public class JdbcInsertExecutor {
+
+	private final RelationalMappingContext context;
+
+	private final JdbcConverter converter;
+
+	private final IdentifierProcessing identifierProcessing;
+
+	private final NamedParameterJdbcOperations operations;
+
+	private final Map<Class<?>, String> statements = new ConcurrentHashMap<>();
+
+	private final Map<Class<?>, List<EntityColumn>> columns = new ConcurrentHashMap<>();
+
+	public JdbcInsertExecutor(RelationalMappingContext context, JdbcConverter converter, Dialect dialect,
+			NamedParameterJdbcOperations operations) {
+		this.context = context;
+		this.converter = converter;
+		this.identifierProcessing = dialect.getIdentifierProcessing();
+		this.operations = operations;
+	}
+
+	/**
+	 * Insert {@code instances} of {@code entityClass} as a single JDBC batch.
+	 *
+	 * @param instances
+	 * @param entityClass
+	 * @return inserted rows per instance
+	 */
+	public int[] insertAll(List<?> instances, Class<?> entityClass) {
+		return operations.batchUpdate(getInsertSql(entityClass), getParameterSources(instances, entityClass));
+	}
+
+	public String getInsertSql(Class<?> entityClass) {
+		return statements.computeIfAbsent(entityClass, this::createSql);
+	}
+
+	/**
+	 * Converted column values of {@code instances}, one batch entry each, for
+	 * {@link #getInsertSql(Class)}.
+	 *
+	 * @param instances
+	 * @param entityClass
+	 * @return
+	 */
+	public SqlParameterSource[] getParameterSources(List<?> instances, Class<?> entityClass) {
+		RelationalPersistentEntity<?> persistentEntity = context.getRequiredPersistentEntity(entityClass);
+		List<EntityColumn> columns = getColumns(persistentEntity);
+
+		SqlParameterSource[] batch = new SqlParameterSource[instances.size()];
+
+		for (int i = 0; i < instances.size(); i++) {
+			PersistentPropertyAccessor<?> accessor = persistentEntity.getPropertyAccessor(instances.get(i));
+
+			Assert.notNull(accessor.getProperty(persistentEntity.getRequiredIdProperty()),
+					"Batch insert requires an assigned id!");
+
+			batch[i] = getParameterSource(converter, columns, accessor);
+		}
+
+		return batch;
+	}
+
+	private String createSql(Class<?> entityClass) {
+		RelationalPersistentEntity<?> persistentEntity = context.getRequiredPersistentEntity(entityClass);
+		List<EntityColumn> columns = getColumns(persistentEntity);
+
+		List<String> markers = new ArrayList<>();
+
+		for (int i = 0; i < columns.size(); i++) {
+			markers.add(":p" + i);
+		}
+
+		return String.format("INSERT INTO %s (%s) VALUES (%s)",
+				persistentEntity.getTableName().toSql(identifierProcessing),
+				columns.stream().map(c -> c.getColumnName().toSql(identifierProcessing))
+						.collect(Collectors.joining(", ")),
+				String.join(", ", markers));
+	}
+
+	private List<EntityColumn> getColumns(RelationalPersistentEntity<?> persistentEntity) {
+		return columns.computeIfAbsent(persistentEntity.getType(), type -> EntityColumn.of(context, persistentEntity));
+	}
+
+	/**
+	 * Simple properties stored in columns of the entity's own table, without the
+	 * columns of embedded values, see {@link EntityColumn#of}.
+	 */
+	static List<RelationalPersistentProperty> getColumnProperties(RelationalPersistentEntity<?> persistentEntity) {
+		List<RelationalPersistentProperty> properties = new ArrayList<>();
+
+		for (RelationalPersistentProperty property : persistentEntity) {
+			if (property.isEntity()) {
+				continue;
+			}
+
+			properties.add(property);
+		}
+
+		return properties;
+	}
+
+	/**
+	 * Converted values of {@code columns} bound as {@code p0, p1, ...}.
+	 */
+	static MapSqlParameterSource getParameterSource(JdbcConverter converter, List<EntityColumn> columns,
+			PersistentPropertyAccessor<?> accessor) {
+		MapSqlParameterSource ps = new MapSqlParameterSource();
+
+		for (int i = 0; i < columns.size(); i++) {
+			RelationalPersistentProperty property = columns.get(i).getProperty();
+
+			JdbcValue jdbcValue = converter.writeJdbcValue(columns.get(i).getValue(accessor),
+					converter.getColumnType(property), converter.getSqlType(property));
+
+			ps.addValue("p" + i, jdbcValue.getValue(), JdbcUtil.sqlTypeFor(jdbcValue.getJdbcType()));
+		}
+
+		return ps;
+	}
+
+}
@@ -0,0 +1,209 @@
+package org.springframework.data.jdbc.core;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.data.relational.core.sql.AssignValue;
+import org.springframework.data.relational.core.sql.SQL;
+import org.springframework.data.relational.core.sql.Select;
+import org.springframework.data.relational.core.sql.StatementBuilder;
+import org.springframework.data.relational.core.sql.Table;
+import org.springframework.data.relational.core.sql.Update;
+import org.springframework.data.relational.core.sql.render.SqlRenderer;
+import org.springframework.jdbc.LobRetrievalFailureException;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.support.AbstractLobCreatingPreparedStatementCallback;
+import org.springframework.jdbc.support.lob.DefaultLobHandler;
+import org.springframework.jdbc.support.lob.LobCreator;
+import org.springframework.jdbc.support.lob.LobHandler;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.StreamUtils;
+
+/**
+ * Streams single LOB columns of the entities of a
+ * {@link JdbcAggregatePlusTemplate} in and out of the database without
+ * loading the entity or materialising the value.
+ */
+public class JdbcLobTemplate {
+
+	private final JdbcAggregatePlusTemplate template;
+
+	private LobHandler lobHandler = new DefaultLobHandler();
+
+	public JdbcLobTemplate(JdbcAggregatePlusTemplate template) {
+		Assert.notNull(template, "JdbcAggregatePlusTemplate must not be null");
+		this.template = template;
+	}
+
+	public void setLobHandler(LobHandler lobHandler) {
+		Assert.notNull(lobHandler, "LobHandler must not be null");
+		this.lobHandler = lobHandler;
+	}
+
+	/**
+	 * Stream a binary LOB column of the row with {@code id}. The value is never
+	 * materialised, so {@code callback} should copy it with a bounded buffer.
+	 *
+	 * @param entityClass
+	 * @param id
+	 * @param property
+	 * @param callback
+	 * @return result of {@code callback}, {@literal null} if no row or value
+	 */
+	@Nullable
+	public <T> T readLob(Class<?> entityClass, Object id, String property, LobCallback<InputStream, T> callback) {
+		return template.getOperations().query(getSelectSql(entityClass, property), new MapSqlParameterSource("id", id),
+				(ResultSetExtractor<T>) rs -> {
+					if (!rs.next()) {
+						return null;
+					}
+
+					InputStream in = lobHandler.getBlobAsBinaryStream(rs, 1);
+
+					if (in == null) {
+						return null;
+					}
+
+					try (InputStream stream = in) {
+						return callback.doWithLob(stream);
+					} catch (IOException e) {
+						throw new LobRetrievalFailureException("Could not read LOB " + property, e);
+					}
+				});
+	}
+
+	/**
+	 * Character counterpart of
+	 * {@link #readLob(Class, Object, String, LobCallback)}.
+	 */
+	@Nullable
+	public <T> T readClob(Class<?> entityClass, Object id, String property, LobCallback<Reader, T> callback) {
+		return template.getOperations().query(getSelectSql(entityClass, property), new MapSqlParameterSource("id", id),
+				(ResultSetExtractor<T>) rs -> {
+					if (!rs.next()) {
+						return null;
+					}
+
+					Reader in = lobHandler.getClobAsCharacterStream(rs, 1);
+
+					if (in == null) {
+						return null;
+					}
+
+					try (Reader reader = in) {
+						return callback.doWithLob(reader);
+					} catch (IOException e) {
+						throw new LobRetrievalFailureException("Could not read LOB " + property, e);
+					}
+				});
+	}
+
+	/**
+	 * Copy a binary LOB column into {@code out}.
+	 *
+	 * @return number of bytes copied, {@literal -1} if no row or value
+	 */
+	public long readLob(Class<?> entityClass, Object id, String property, OutputStream out) {
+		Long count = readLob(entityClass, id, property, in -> copy(in, out));
+		return count == null ? -1 : count;
+	}
+
+	/**
+	 * Write a binary LOB column of the row with {@code id} from {@code in} using
+	 * {@code setBinaryStream}. Pass {@literal -1} when the length is unknown.
+	 *
+	 * @return number of updated rows
+	 */
+	public int writeLob(Class<?> entityClass, Object id, String property, InputStream in, long length) {
+		Assert.isTrue(length <= Integer.MAX_VALUE, "LOB length must not exceed Integer.MAX_VALUE");
+
+		template.flush();
+		template.forgetSnapshot(entityClass, id);
+
+		return template.getOperations().getJdbcOperations().execute(getUpdateSql(entityClass, property),
+				new AbstractLobCreatingPreparedStatementCallback(lobHandler) {
+
+					@Override
+					protected void setValues(PreparedStatement ps, LobCreator lobCreator) throws SQLException {
+						lobCreator.setBlobAsBinaryStream(ps, 1, in, (int) length);
+						ps.setObject(2, id);
+					}
+				});
+	}
+
+	/**
+	 * Character counterpart of
+	 * {@link #writeLob(Class, Object, String, InputStream, long)}.
+	 */
+	public int writeClob(Class<?> entityClass, Object id, String property, Reader reader, long length) {
+		Assert.isTrue(length <= Integer.MAX_VALUE, "LOB length must not exceed Integer.MAX_VALUE");
+
+		template.flush();
+		template.forgetSnapshot(entityClass, id);
+
+		return template.getOperations().getJdbcOperations().execute(getUpdateSql(entityClass, property),
+				new AbstractLobCreatingPreparedStatementCallback(lobHandler) {
+
+					@Override
+					protected void setValues(PreparedStatement ps, LobCreator lobCreator) throws SQLException {
+						lobCreator.setClobAsCharacterStream(ps, 1, reader, (int) length);
+						ps.setObject(2, id);
+					}
+				});
+	}
+
+	/**
+	 * Like {@link StreamUtils#copy(InputStream, OutputStream)}, counting beyond
+	 * {@link Integer#MAX_VALUE} bytes.
+	 */
+	private static long copy(InputStream in, OutputStream out) throws IOException {
+		byte[] buffer = new byte[StreamUtils.BUFFER_SIZE];
+		long count = 0;
+		int read;
+
+		while ((read = in.read(buffer)) != -1) {
+			out.write(buffer, 0, read);
+			count += read;
+		}
+
+		out.flush();
+
+		return count;
+	}
+
+	private String getSelectSql(Class<?> entityClass, String property) {
+		RelationalPersistentEntity<?> persistentEntity = template.getRequiredEntity(entityClass);
+		Table table = Table.create(persistentEntity.getTableName());
+
+		Select select = StatementBuilder
+				.select(table.column(persistentEntity.getRequiredPersistentProperty(property).getColumnName()))
+				.from(table).where(table.column(persistentEntity.getRequiredIdProperty().getColumnName())
+						.isEqualTo(SQL.bindMarker(":id")))
+				.build();
+
+		return SqlRenderer.create(template.getStatementMapper().getRenderContext()).render(select);
+	}
+
+	private String getUpdateSql(Class<?> entityClass, String property) {
+		RelationalPersistentEntity<?> persistentEntity = template.getRequiredEntity(entityClass);
+		Table table = Table.create(persistentEntity.getTableName());
+
+		Update update = StatementBuilder.update(table)
+				.set(AssignValue.create(
+						table.column(persistentEntity.getRequiredPersistentProperty(property).getColumnName()),
+						SQL.bindMarker()))
+				.where(table.column(persistentEntity.getRequiredIdProperty().getColumnName())
+						.isEqualTo(SQL.bindMarker()))
+				.build();
+
+		return SqlRenderer.create(template.getStatementMapper().getRenderContext()).render(update);
+	}
+
+}
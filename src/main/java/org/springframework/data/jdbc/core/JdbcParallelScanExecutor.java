@@ -0,0 +1,168 @@
+package org.springframework.data.jdbc.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import org.springframework.data.jdbc.repository.query.DefaultParametrizedQuery;
+import org.springframework.data.relational.core.dialect.Dialect;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
+import org.springframework.lang.Nullable;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Runs the queries of disjoint partitions concurrently, each in a transaction
+ * and so on a connection of its own, streaming its rows through a fetch size
+ * cursor. Every partition hands its entities to the consumer in chunks from
+ * its own thread, so at most one chunk per partition is held at a time.
+ * <p>
+ * The first failing partition cancels the others and its exception is
+ * rethrown to the caller.
+ */
+public class JdbcParallelScanExecutor {
+
+	private final Dialect dialect;
+
+	private final NamedParameterJdbcOperations operations;
+
+	public JdbcParallelScanExecutor(Dialect dialect, NamedParameterJdbcOperations operations) {
+		this.dialect = dialect;
+		this.operations = operations;
+	}
+
+	/**
+	 * @param partitions          query per partition
+	 * @param rowMappers          a new row mapper per partition
+	 * @param chunkSize           entities per call of {@code consumer}
+	 * @param executor            runs the partitions, {@literal null} to use a
+	 *                            thread per partition
+	 * @param transactionTemplate
+	 * @param consumer            called concurrently from the partition threads
+	 * @return number of rows
+	 */
+	public <T> long scan(List<DefaultParametrizedQuery> partitions, Supplier<RowMapper<T>> rowMappers,
+			int chunkSize, @Nullable Executor executor, TransactionTemplate transactionTemplate,
+			Consumer<List<T>> consumer) {
+		if (partitions.isEmpty()) {
+			return 0;
+		}
+
+		ExecutorService ownExecutor = executor == null ? createExecutor(partitions.size()) : null;
+		AtomicLong count = new AtomicLong();
+		Cancellation cancellation = new Cancellation();
+		List<CompletableFuture<Void>> futures = new ArrayList<>();
+
+		try {
+			for (DefaultParametrizedQuery partition : partitions) {
+				futures.add(CompletableFuture.runAsync(() -> {
+					long rows = transactionTemplate.execute(status -> scanPartition(partition, rowMappers.get(),
+							chunkSize, cancellation, consumer));
+
+					count.addAndGet(rows);
+				}, executor != null ? executor : ownExecutor).whenComplete((result, e) -> {
+					if (e != null) {
+						cancellation.cancelled = true;
+					}
+				}));
+			}
+
+			CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).join();
+		} catch (CompletionException e) {
+			throw getFirstFailure(futures, e);
+		} finally {
+			if (ownExecutor != null) {
+				ownExecutor.shutdown();
+			}
+		}
+
+		return count.get();
+	}
+
+	private <T> long scanPartition(DefaultParametrizedQuery partition, RowMapper<T> rowMapper, int chunkSize,
+			Cancellation cancellation, Consumer<List<T>> consumer) {
+		List<T> chunk = new ArrayList<>(chunkSize);
+		long[] rows = new long[1];
+
+		operations.getJdbcOperations().query(
+				JdbcExportExecutor.getStatementCreator(dialect, partition.getQuery(), partition.getParameterSource()),
+				(RowCallbackHandler) rs -> {
+					if (cancellation.cancelled) {
+						throw new PartitionCancelledException();
+					}
+
+					chunk.add(rowMapper.mapRow(rs, (int) rows[0]++));
+
+					if (chunk.size() >= chunkSize) {
+						consumer.accept(new ArrayList<>(chunk));
+						chunk.clear();
+					}
+				});
+
+		if (!chunk.isEmpty()) {
+			consumer.accept(chunk);
+		}
+
+		return rows[0];
+	}
+
+	/**
+	 * The exception of a partition that failed on its own rather than by being
+	 * cancelled.
+	 */
+	private static RuntimeException getFirstFailure(List<CompletableFuture<Void>> futures, CompletionException e) {
+		for (CompletableFuture<Void> future : futures) {
+			try {
+				future.join();
+			} catch (CompletionException failure) {
+				if (!(failure.getCause() instanceof PartitionCancelledException)) {
+					return unwrap(failure);
+				}
+			}
+		}
+
+		return unwrap(e);
+	}
+
+	private static RuntimeException unwrap(CompletionException e) {
+		return e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+	}
+
+	private static ExecutorService createExecutor(int threads) {
+		AtomicInteger counter = new AtomicInteger();
+
+		return Executors.newFixedThreadPool(threads, runnable -> {
+			Thread thread = new Thread(runnable, "jdbc-parallel-scan-" + counter.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	private static class Cancellation {
+
+		private volatile boolean cancelled = false;
+
+	}
+
+	/**
+	 * Stops a partition after another one failed.
+	 */
+	@SuppressWarnings("serial")
+	private static class PartitionCancelledException extends RuntimeException {
+
+		PartitionCancelledException() {
+			super("Cancelled after the failure of another partition", null, false, false);
+		}
+
+	}
+
+}
@@ -0,0 +1,420 @@
+package org.springframework.data.jdbc.core;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.dao.IncorrectUpdateSemanticsDataAccessException;
+import org.springframework.data.jdbc.core.convert.JdbcConverter;
+import org.springframework.data.jdbc.core.convert.JdbcValue;
+import org.springframework.data.jdbc.support.JdbcUtil;
+import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.data.relational.core.dialect.Dialect;
+import org.springframework.data.relational.core.mapping.ManyToMany;
+import org.springframework.data.relational.core.mapping.ManyToOne;
+import org.springframework.data.relational.core.mapping.OneToMany;
+import org.springframework.data.relational.core.mapping.RelationalMappingContext;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+import org.springframework.data.relational.core.sql.IdentifierProcessing;
+import org.springframework.data.util.Pair;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.lang.Nullable;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentReferenceHashMap;
+import org.springframework.util.ObjectUtils;
+
+/**
+ * Snapshot based dirty tracking. Column values of loaded or saved entities are
+ * kept per type and id, and an update of such an entity writes only the columns
+ * that differ from the snapshot, or nothing at all.
+ * <p>
+ * Only flat entities are tracked: an id, no {@code @Version} and no nested
+ * entities other than {@link ManyToOne}, {@link OneToMany} and
+ * {@link ManyToMany} relations, which are not columns of the table. Snapshots
+ * are softly referenced, a collected snapshot means the next save is a regular
+ * full update.
+ * <p>
+ * Snapshots belong to the transaction they were taken in and are dropped when
+ * it completes, so that neither a rollback nor a later write by someone else
+ * leaves a stale snapshot suppressing an update. Without transaction
+ * synchronization nothing is tracked.
+ * <p>
+ * Lazy columns an entity was read without and that are still {@literal null}
+ * are never written, with or without snapshot.
+ */
+public class JdbcPartialUpdateExecutor {
+
+	private final RelationalMappingContext context;
+
+	private final JdbcConverter converter;
+
+	private final IdentifierProcessing identifierProcessing;
+
+	private final NamedParameterJdbcOperations operations;
+
+	private final LazyColumnTracker lazyColumnTracker;
+
+	private final Map<Class<?>, TrackedType> types = new ConcurrentHashMap<>();
+
+	private final Map<Pair<Class<?>, BitSet>, String> statements = new ConcurrentHashMap<>();
+
+
+	public JdbcPartialUpdateExecutor(RelationalMappingContext context, JdbcConverter converter, Dialect dialect,
+			NamedParameterJdbcOperations operations, LazyColumnTracker lazyColumnTracker) {
+		this.context = context;
+		this.converter = converter;
+		this.identifierProcessing = dialect.getIdentifierProcessing();
+		this.operations = operations;
+		this.lazyColumnTracker = lazyColumnTracker;
+	}
+
+	/**
+	 * Remember the current column values of {@code entity} as its database state.
+	 *
+	 * @param entity
+	 */
+	public void snapshot(Object entity) {
+		TrackedType type = getType(entity.getClass());
+
+		if (type == null) {
+			return;
+		}
+
+		PersistentPropertyAccessor<?> accessor = type.entity.getPropertyAccessor(entity);
+		Object id = accessor.getProperty(type.entity.getRequiredIdProperty());
+
+		Map<Pair<Class<?>, Object>, Object[]> snapshots = getSnapshots(id != null);
+
+		if (snapshots != null) {
+			snapshots.put(Pair.of(entity.getClass(), id), getValues(type, accessor));
+		}
+	}
+
+	public void snapshotAll(Iterable<?> entities) {
+		entities.forEach(this::snapshot);
+	}
+
+	/**
+	 * @param entity
+	 * @return whether a save of {@code entity} can be a partial update.
+	 */
+	public boolean isTracked(Object entity) {
+		TrackedType type = getType(entity.getClass());
+
+		Map<Pair<Class<?>, Object>, Object[]> snapshots = getSnapshots(false);
+
+		if (snapshots == null || type == null || type.entity.isNew(entity)) {
+			return false;
+		}
+
+		return snapshots.containsKey(getKey(type, entity));
+	}
+
+	public void forget(Class<?> entityClass, Object id) {
+		Map<Pair<Class<?>, Object>, Object[]> snapshots = getSnapshots(false);
+
+		if (snapshots != null) {
+			snapshots.remove(Pair.of(entityClass, id));
+		}
+	}
+
+	/**
+	 * Drop the snapshots of all entities of {@code entityClass}, after a write
+	 * that did not go through the entities.
+	 *
+	 * @param entityClass
+	 */
+	public void forgetAll(Class<?> entityClass) {
+		Map<Pair<Class<?>, Object>, Object[]> snapshots = getSnapshots(false);
+
+		if (snapshots != null) {
+			snapshots.keySet().removeIf(key -> key.getFirst() == entityClass);
+		}
+	}
+
+	/**
+	 * @param entityClass
+	 * @return whether entities of {@code entityClass} can be tracked.
+	 */
+	public boolean isTrackable(Class<?> entityClass) {
+		return getType(entityClass) != null;
+	}
+
+	public int updateAll(List<?> entities) {
+		return updateAll(entities, true);
+	}
+
+	/**
+	 * Update the changed columns of tracked {@code entities}, one JDBC batch per
+	 * type and set of changed columns. Unchanged entities issue no statement,
+	 * entities without snapshot are updated in full.
+	 *
+	 * @param entities
+	 * @param keepSnapshots whether to remember the written state
+	 * @return number of entities that were written
+	 */
+	public int updateAll(List<?> entities, boolean keepSnapshots) {
+		Map<Pair<Class<?>, BitSet>, List<Object>> batches = new LinkedHashMap<>();
+
+		for (Object entity : entities) {
+			BitSet dirty = getDirtyColumns(entity);
+
+			if (dirty.isEmpty()) {
+				continue;
+			}
+
+			batches.computeIfAbsent(Pair.of(entity.getClass(), dirty), k -> new ArrayList<>()).add(entity);
+		}
+
+		int count = 0;
+
+		for (Map.Entry<Pair<Class<?>, BitSet>, List<Object>> batch : batches.entrySet()) {
+			TrackedType type = getType(batch.getKey().getFirst());
+			BitSet dirty = batch.getKey().getSecond();
+			List<Object> group = batch.getValue();
+
+			SqlParameterSource[] parameterSources = new SqlParameterSource[group.size()];
+
+			for (int i = 0; i < group.size(); i++) {
+				parameterSources[i] = getParameterSource(type, dirty, group.get(i));
+			}
+
+			int[] updated = operations.batchUpdate(statements.computeIfAbsent(batch.getKey(), k -> createSql(type, dirty)),
+					parameterSources);
+
+			for (int i = 0; i < updated.length; i++) {
+				if (updated[i] == 0) {
+					throw new IncorrectUpdateSemanticsDataAccessException(
+							String.format("Failed to update entity [%s]. Id [%s] not found in database.", group.get(i),
+									type.entity.getIdentifierAccessor(group.get(i)).getIdentifier()));
+				}
+			}
+
+			for (Object entity : group) {
+				lazyColumnTracker.fetched(entity, getProperties(type, dirty));
+			}
+
+			if (keepSnapshots) {
+				snapshotAll(group);
+			}
+
+			count += group.size();
+		}
+
+		return count;
+	}
+
+	/**
+	 * Columns of {@code entity} that differ from its snapshot, all columns if the
+	 * snapshot is gone. Unfetched lazy columns are left out while {@literal null}.
+	 */
+	private BitSet getDirtyColumns(Object entity) {
+		TrackedType type = getType(entity.getClass());
+
+		Assert.notNull(type, "Entity type is not tracked!");
+
+		Map<Pair<Class<?>, Object>, Object[]> snapshots = getSnapshots(false);
+		Object[] snapshot = snapshots == null ? null : snapshots.get(getKey(type, entity));
+		PersistentPropertyAccessor<?> accessor = type.entity.getPropertyAccessor(entity);
+		BitSet dirty = new BitSet(type.properties.size());
+
+		if (snapshot == null) {
+			dirty.set(0, type.properties.size());
+		} else {
+			for (int i = 0; i < type.properties.size(); i++) {
+				if (!ObjectUtils.nullSafeEquals(accessor.getProperty(type.properties.get(i)), snapshot[i])) {
+					dirty.set(i);
+				}
+			}
+		}
+
+		for (RelationalPersistentProperty property : lazyColumnTracker.getUnfetched(entity)) {
+			int index = type.properties.indexOf(property);
+
+			if (index >= 0 && accessor.getProperty(property) == null) {
+				dirty.clear(index);
+			}
+		}
+
+		return dirty;
+	}
+
+	private List<RelationalPersistentProperty> getProperties(TrackedType type, BitSet columns) {
+		List<RelationalPersistentProperty> properties = new ArrayList<>();
+
+		for (int i = columns.nextSetBit(0); i >= 0; i = columns.nextSetBit(i + 1)) {
+			properties.add(type.properties.get(i));
+		}
+
+		return properties;
+	}
+
+	private MapSqlParameterSource getParameterSource(TrackedType type, BitSet dirty, Object entity) {
+		PersistentPropertyAccessor<?> accessor = type.entity.getPropertyAccessor(entity);
+		MapSqlParameterSource ps = new MapSqlParameterSource();
+
+		for (int i = 0; i < type.properties.size(); i++) {
+			if (dirty.get(i)) {
+				addValue(ps, "p" + i, type.properties.get(i), accessor);
+			}
+		}
+
+		addValue(ps, "id", type.entity.getRequiredIdProperty(), accessor);
+
+		return ps;
+	}
+
+	private void addValue(MapSqlParameterSource ps, String name, RelationalPersistentProperty property,
+			PersistentPropertyAccessor<?> accessor) {
+		JdbcValue jdbcValue = converter.writeJdbcValue(accessor.getProperty(property),
+				converter.getColumnType(property), converter.getSqlType(property));
+
+		ps.addValue(name, jdbcValue.getValue(), JdbcUtil.sqlTypeFor(jdbcValue.getJdbcType()));
+	}
+
+	private String createSql(TrackedType type, BitSet dirty) {
+		List<String> assignments = new ArrayList<>();
+
+		for (int i = 0; i < type.properties.size(); i++) {
+			if (dirty.get(i)) {
+				assignments.add(type.properties.get(i).getColumnName().toSql(identifierProcessing) + " = :p" + i);
+			}
+		}
+
+		return String.format("UPDATE %s SET %s WHERE %s = :id", type.entity.getTableName().toSql(identifierProcessing),
+				String.join(", ", assignments),
+				type.entity.getRequiredIdProperty().getColumnName().toSql(identifierProcessing));
+	}
+
+	private Object[] getValues(TrackedType type, PersistentPropertyAccessor<?> accessor) {
+		Object[] values = new Object[type.properties.size()];
+
+		for (int i = 0; i < values.length; i++) {
+			Object value = accessor.getProperty(type.properties.get(i));
+
+			// copy mutable values, otherwise in place changes go unnoticed
+			if (value instanceof byte[]) {
+				value = ((byte[]) value).clone();
+			} else if (value instanceof Date) {
+				value = ((Date) value).clone();
+			}
+
+			values[i] = value;
+		}
+
+		return values;
+	}
+
+	/**
+	 * Snapshots of the current transaction.
+	 *
+	 * @param create whether to start tracking in the current transaction
+	 * @return {@literal null} without transaction synchronization or if
+	 *         {@code create} is {@literal false} and nothing is tracked yet
+	 */
+	@Nullable
+	@SuppressWarnings("unchecked")
+	private Map<Pair<Class<?>, Object>, Object[]> getSnapshots(boolean create) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			return null;
+		}
+
+		Map<Pair<Class<?>, Object>, Object[]> snapshots = (Map<Pair<Class<?>, Object>, Object[]>) TransactionSynchronizationManager
+				.getResource(this);
+
+		if (snapshots == null && create) {
+			snapshots = new ConcurrentReferenceHashMap<>();
+			TransactionSynchronizationManager.bindResource(this, snapshots);
+			TransactionSynchronizationManager.registerSynchronization(new SnapshotSynchronization(snapshots));
+		}
+
+		return snapshots;
+	}
+
+	private Pair<Class<?>, Object> getKey(TrackedType type, Object entity) {
+		return Pair.of(entity.getClass(), type.entity.getIdentifierAccessor(entity).getRequiredIdentifier());
+	}
+
+	@Nullable
+	private TrackedType getType(Class<?> entityClass) {
+		TrackedType type = types.computeIfAbsent(entityClass, this::createType);
+
+		return type.properties == null ? null : type;
+	}
+
+	private TrackedType createType(Class<?> entityClass) {
+		RelationalPersistentEntity<?> persistentEntity = context.getPersistentEntity(entityClass);
+
+		if (persistentEntity == null || !persistentEntity.hasIdProperty() || persistentEntity.hasVersionProperty()) {
+			return new TrackedType(persistentEntity, null);
+		}
+
+		for (RelationalPersistentProperty property : persistentEntity) {
+			if (property.isEntity()) {
+				return new TrackedType(persistentEntity, null);
+			}
+		}
+
+		List<RelationalPersistentProperty> properties = new ArrayList<>();
+
+		for (RelationalPersistentProperty property : JdbcInsertExecutor.getColumnProperties(persistentEntity)) {
+			if (!property.isIdProperty()) {
+				properties.add(property);
+			}
+		}
+
+		return new TrackedType(persistentEntity, properties);
+	}
+
+	/**
+	 * Keeps the snapshots bound to their own transaction only.
+	 */
+	private class SnapshotSynchronization implements TransactionSynchronization {
+
+		private final Map<Pair<Class<?>, Object>, Object[]> snapshots;
+
+		SnapshotSynchronization(Map<Pair<Class<?>, Object>, Object[]> snapshots) {
+			this.snapshots = snapshots;
+		}
+
+		@Override
+		public void suspend() {
+			TransactionSynchronizationManager.unbindResource(JdbcPartialUpdateExecutor.this);
+		}
+
+		@Override
+		public void resume() {
+			TransactionSynchronizationManager.bindResource(JdbcPartialUpdateExecutor.this, snapshots);
+		}
+
+		@Override
+		public void afterCompletion(int status) {
+			TransactionSynchronizationManager.unbindResourceIfPossible(JdbcPartialUpdateExecutor.this);
+		}
+
+	}
+
+	private static class TrackedType {
+
+		private final RelationalPersistentEntity<?> entity;
+
+		@Nullable
+		private final List<RelationalPersistentProperty> properties;
+
+		TrackedType(RelationalPersistentEntity<?> entity, @Nullable List<RelationalPersistentProperty> properties) {
+			this.entity = entity;
+			this.properties = properties;
+		}
+
+	}
+
+}
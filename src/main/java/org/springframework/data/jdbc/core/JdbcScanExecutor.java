@@ -0,0 +1,65 @@
+package org.springframework.data.jdbc.core;
+
+import java.util.function.Consumer;
+
+import org.springframework.data.jdbc.core.convert.CompiledEntityRowMapper;
+import org.springframework.data.relational.core.dialect.Dialect;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.util.Assert;
+
+/**
+ * Streams the rows of a query into a fixed ring of reused entity instances.
+ * Each row is written into the next instance of the ring through
+ * {@link CompiledEntityRowMapper#mapInto}, whose column layout is resolved
+ * once per result set, so apart from boxed wrapper and object properties a
+ * row allocates nothing.
+ */
+public class JdbcScanExecutor {
+
+	private final Dialect dialect;
+
+	private final NamedParameterJdbcOperations operations;
+
+	public JdbcScanExecutor(Dialect dialect, NamedParameterJdbcOperations operations) {
+		this.dialect = dialect;
+		this.operations = operations;
+	}
+
+	/**
+	 * @param sql        the query
+	 * @param parameters its parameters
+	 * @param rowMapper
+	 * @param instances  size of the ring, an instance is overwritten by the row
+	 *                   {@code instances} rows later
+	 * @param action     called with the instance of each row
+	 * @return number of rows
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> long forEach(String sql, SqlParameterSource parameters, CompiledEntityRowMapper<T> rowMapper,
+			int instances, Consumer<? super T> action) {
+		Assert.isTrue(instances > 0, "Instances must be greater than 0");
+
+		Object[] ring = new Object[instances];
+		long[] rows = new long[1];
+
+		operations.getJdbcOperations().query(JdbcExportExecutor.getStatementCreator(dialect, sql, parameters),
+				(RowCallbackHandler) rs -> {
+					int slot = (int) (rows[0]++ % instances);
+					T instance = (T) ring[slot];
+
+					if (instance == null) {
+						instance = rowMapper.mapRow(rs, slot);
+						ring[slot] = instance;
+					} else {
+						rowMapper.mapInto(rs, instance);
+					}
+
+					action.accept(instance);
+				});
+
+		return rows[0];
+	}
+
+}
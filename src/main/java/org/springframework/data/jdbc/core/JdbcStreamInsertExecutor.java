@@ -0,0 +1,267 @@
+package org.springframework.data.jdbc.core;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.jdbc.support.JdbcAccessor;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Two stage insert of an unbounded sequence of entities. The calling thread
+ * assigns ids and converts entities into JDBC parameters, a writer thread
+ * executes the batches on a connection of its own, committing every
+ * {@link IngestOptions#getCommitInterval()} batches. Both stages are coupled
+ * by a buffer of {@link IngestOptions#getBufferSize()} batches, so memory
+ * stays constant however long the input is.
+ * <p>
+ * The writer does not take part in a transaction of the caller. After a
+ * failure the batches committed so far stay, the uncommitted ones are rolled
+ * back.
+ */
+public class JdbcStreamInsertExecutor {
+
+	private static final Batch END = new Batch(null, null);
+
+	private final JdbcInsertExecutor insertExecutor;
+
+	private final IdentifierAllocator identifierAllocator;
+
+	private final NamedParameterJdbcOperations operations;
+
+	public JdbcStreamInsertExecutor(JdbcInsertExecutor insertExecutor, IdentifierAllocator identifierAllocator,
+			NamedParameterJdbcOperations operations) {
+		this.insertExecutor = insertExecutor;
+		this.identifierAllocator = identifierAllocator;
+		this.operations = operations;
+	}
+
+	/**
+	 * @param instances entities with assigned ids or {@code IdGenerator} ids
+	 * @param options
+	 * @return number of inserted rows
+	 */
+	public long insertAll(Iterator<?> instances, IngestOptions options) {
+		Assert.isTrue(options.getBatchSize() > 0, "Batch size must be greater than 0");
+		Assert.isTrue(options.getCommitInterval() > 0, "Commit interval must be greater than 0");
+		Assert.isTrue(options.getBufferSize() > 0, "Buffer size must be greater than 0");
+
+		Writer writer = new Writer(getDataSource(), new ArrayBlockingQueue<>(options.getBufferSize()),
+				options.getCommitInterval());
+		Thread thread = new Thread(writer, "jdbc-ingest-writer");
+		thread.start();
+
+		try {
+			Map<Class<?>, List<Object>> pending = new LinkedHashMap<>();
+
+			while (!writer.cancelled && writer.error == null && instances.hasNext()) {
+				Object instance = identifierAllocator.assignId(instances.next());
+				List<Object> group = pending.computeIfAbsent(instance.getClass(), k -> new ArrayList<>());
+
+				group.add(instance);
+
+				if (group.size() >= options.getBatchSize()) {
+					writer.put(createBatch(instance.getClass(), group));
+					group.clear();
+				}
+			}
+
+			for (Map.Entry<Class<?>, List<Object>> group : pending.entrySet()) {
+				if (!group.getValue().isEmpty() && !writer.cancelled && writer.error == null) {
+					writer.put(createBatch(group.getKey(), group.getValue()));
+				}
+			}
+		} catch (RuntimeException e) {
+			writer.cancelled = true;
+			throw e;
+		} finally {
+			writer.put(END);
+			join(thread);
+		}
+
+		if (writer.error != null) {
+			throw writer.error;
+		}
+
+		if (writer.cancelled) {
+			throw new IllegalStateException("Interrupted, uncommitted batches were rolled back");
+		}
+
+		return writer.count;
+	}
+
+	private Batch createBatch(Class<?> entityClass, List<Object> instances) {
+		return new Batch(insertExecutor.getInsertSql(entityClass),
+				insertExecutor.getParameterSources(instances, entityClass));
+	}
+
+	private DataSource getDataSource() {
+		JdbcOperations jdbcOperations = operations.getJdbcOperations();
+
+		if (!(jdbcOperations instanceof JdbcAccessor)) {
+			throw new IllegalStateException("Cannot determine DataSource for the ingest writer");
+		}
+
+		return ((JdbcAccessor) jdbcOperations).getDataSource();
+	}
+
+	private static void join(Thread thread) {
+		boolean interrupted = false;
+
+		while (true) {
+			try {
+				thread.join();
+				break;
+			} catch (InterruptedException e) {
+				interrupted = true;
+			}
+		}
+
+		if (interrupted) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private static class Writer implements Runnable {
+
+		private final DataSource dataSource;
+
+		private final BlockingQueue<Batch> buffer;
+
+		private final int commitInterval;
+
+		private volatile long count = 0;
+
+		private volatile boolean cancelled = false;
+
+		@Nullable
+		private volatile RuntimeException error;
+
+		Writer(DataSource dataSource, BlockingQueue<Batch> buffer, int commitInterval) {
+			this.dataSource = dataSource;
+			this.buffer = buffer;
+			this.commitInterval = commitInterval;
+		}
+
+		/**
+		 * Hand {@code batch} to the writer, waiting while the buffer is full. Gives
+		 * up once the writer has failed.
+		 */
+		void put(Batch batch) {
+			boolean interrupted = false;
+
+			try {
+				while (error == null) {
+					try {
+						if (buffer.offer(batch, 100, TimeUnit.MILLISECONDS)) {
+							return;
+						}
+					} catch (InterruptedException e) {
+						// stop reading the input, the writer still gets END
+						interrupted = true;
+						cancelled = true;
+					}
+				}
+			} finally {
+				if (interrupted) {
+					Thread.currentThread().interrupt();
+				}
+			}
+		}
+
+		@Override
+		public void run() {
+			JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+
+			try (Connection connection = dataSource.getConnection()) {
+				boolean autoCommit = connection.getAutoCommit();
+
+				connection.setAutoCommit(false);
+
+				try {
+					write(connection, new NamedParameterJdbcTemplate(new SingleConnectionDataSource(connection, true)));
+				} catch (RuntimeException | SQLException e) {
+					connection.rollback();
+					throw e;
+				} finally {
+					connection.setAutoCommit(autoCommit);
+				}
+			} catch (SQLException e) {
+				error = jdbcTemplate.getExceptionTranslator().translate("Ingest", null, e);
+			} catch (RuntimeException e) {
+				error = e;
+			} finally {
+				// unblock a producer waiting for space
+				buffer.clear();
+			}
+		}
+
+		private void write(Connection connection, NamedParameterJdbcOperations writerOperations)
+				throws SQLException {
+			int uncommitted = 0;
+
+			while (true) {
+				Batch batch = take();
+
+				if (batch == END) {
+					break;
+				}
+
+				writerOperations.batchUpdate(batch.sql, batch.parameterSources);
+				count += batch.parameterSources.length;
+
+				if (++uncommitted >= commitInterval) {
+					connection.commit();
+					uncommitted = 0;
+				}
+			}
+
+			if (cancelled) {
+				connection.rollback();
+			} else {
+				connection.commit();
+			}
+		}
+
+		private Batch take() {
+			while (true) {
+				try {
+					return buffer.take();
+				} catch (InterruptedException e) {
+					// only the producer ends the writer
+				}
+			}
+		}
+
+	}
+
+	private static class Batch {
+
+		private final String sql;
+
+		private final SqlParameterSource[] parameterSources;
+
+		Batch(String sql, SqlParameterSource[] parameterSources) {
+			this.sql = sql;
+			this.parameterSources = parameterSources;
+		}
+
+	}
+
+}
@@ -0,0 +1,191 @@
+package org.springframework.data.jdbc.core;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.springframework.data.relational.core.dialect.Dialect;
+import org.springframework.jdbc.UncategorizedSQLException;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Streams query results as entities read lazily from a fetch size cursor.
+ * <p>
+ * With {@link ParallelConversionOptions} the reading thread only copies the
+ * raw column values of {@link ParallelConversionOptions#getBatchSize()} rows
+ * into {@link BufferedRows}, and the row mappers run on a {@link ForkJoinPool}
+ * per batch. Up to {@link ParallelConversionOptions#getPendingBatches()}
+ * batches are converted ahead of the consumer, the results are returned in
+ * query order.
+ */
+public class JdbcStreamQueryExecutor {
+
+	private final Dialect dialect;
+
+	private final NamedParameterJdbcOperations operations;
+
+	public JdbcStreamQueryExecutor(Dialect dialect, NamedParameterJdbcOperations operations) {
+		this.dialect = dialect;
+		this.operations = operations;
+	}
+
+	/**
+	 * @param sql        the query
+	 * @param parameters its parameters
+	 * @param rowMappers a new row mapper per batch, mappers are not shared
+	 *                   between threads
+	 * @param options    {@literal null} to map on the reading thread
+	 * @return entities in query order, to be closed
+	 */
+	public <T> Stream<T> stream(String sql, SqlParameterSource parameters, Supplier<RowMapper<T>> rowMappers,
+			@Nullable ParallelConversionOptions options) {
+		PreparedStatementCreator statementCreator = JdbcExportExecutor.getStatementCreator(dialect, sql, parameters);
+
+		if (options == null) {
+			return operations.getJdbcOperations().queryForStream(statementCreator, rowMappers.get());
+		}
+
+		Assert.isTrue(options.getBatchSize() > 0, "Batch size must be greater than 0");
+		Assert.isTrue(options.getPendingBatches() > 0, "Pending batches must be greater than 0");
+
+		// each element is the result set positioned on the next row
+		Stream<ResultSet> rows = operations.getJdbcOperations().queryForStream(statementCreator, (rs, rowNum) -> rs);
+		OrderedConversion<T> conversion = new OrderedConversion<>(rows.iterator(), rowMappers, options);
+
+		return StreamSupport.stream(Spliterators.spliteratorUnknownSize(conversion, Spliterator.ORDERED), false)
+				.onClose(() -> {
+					conversion.cancel();
+					rows.close();
+				});
+	}
+
+	private static class OrderedConversion<T> implements Iterator<T> {
+
+		private final Iterator<ResultSet> cursor;
+
+		private final Supplier<RowMapper<T>> rowMappers;
+
+		private final int batchSize;
+
+		private final int pendingBatches;
+
+		private final ForkJoinPool pool;
+
+		private final Deque<ForkJoinTask<List<T>>> pending = new ArrayDeque<>();
+
+		private Iterator<T> current = Collections.emptyIterator();
+
+		@Nullable
+		private BufferedRows.Columns columns;
+
+		private int rowNum = 0;
+
+		OrderedConversion(Iterator<ResultSet> cursor, Supplier<RowMapper<T>> rowMappers,
+				ParallelConversionOptions options) {
+			this.cursor = cursor;
+			this.rowMappers = rowMappers;
+			this.batchSize = options.getBatchSize();
+			this.pendingBatches = options.getPendingBatches();
+			this.pool = options.getPool() != null ? options.getPool() : ForkJoinPool.commonPool();
+		}
+
+		@Override
+		public boolean hasNext() {
+			while (!current.hasNext()) {
+				read();
+
+				if (pending.isEmpty()) {
+					return false;
+				}
+
+				current = pending.poll().join().iterator();
+			}
+
+			return true;
+		}
+
+		@Override
+		public T next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+
+			return current.next();
+		}
+
+		void cancel() {
+			pending.forEach(task -> task.cancel(false));
+			pending.clear();
+		}
+
+		/**
+		 * Copy batches until enough are pending or the rows are exhausted.
+		 */
+		private void read() {
+			try {
+				while (pending.size() < pendingBatches && cursor.hasNext()) {
+					ResultSet rs = cursor.next();
+
+					if (columns == null) {
+						columns = new BufferedRows.Columns(rs.getMetaData());
+					}
+
+					BufferedRows batch = new BufferedRows(columns, batchSize);
+
+					batch.add(rs);
+
+					while (batch.size() < batchSize && cursor.hasNext()) {
+						batch.add(cursor.next());
+					}
+
+					int offset = rowNum;
+
+					rowNum += batch.size();
+					pending.add(pool.submit(() -> convert(batch, offset)));
+				}
+			} catch (SQLException e) {
+				throw new UncategorizedSQLException("Reading rows", null, e);
+			}
+		}
+
+		private List<T> convert(BufferedRows batch, int offset) {
+			RowMapper<T> rowMapper = rowMappers.get();
+			ResultSet rs = batch.getResultSet();
+			List<T> result = new ArrayList<>(batch.size());
+
+			try {
+				for (int i = 0; i < batch.size(); i++) {
+					if (i > 0) {
+						rs.next();
+					}
+
+					result.add(rowMapper.mapRow(rs, offset + i));
+				}
+			} catch (SQLException e) {
+				throw new UncategorizedSQLException("Converting rows", null, e);
+			}
+
+			return result;
+		}
+
+	}
+
+}
@@ -0,0 +1,209 @@
+package org.springframework.data.jdbc.core;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.data.relational.core.mapping.ManyToOne;
+import org.springframework.data.relational.core.sql.SqlIdentifier;
+
+/**
+ * Write-behind queue of one transaction. Saves and deletes are collected per
+ * entity type and id, repeated operations on the same row are coalesced into
+ * one, and the pending operations are handed out ordered by the
+ * {@link ManyToOne} dependencies between the types: parents before children
+ * for writes, children before parents for deletes.
+ * <p>
+ * Not thread safe, an instance belongs to the thread of its transaction.
+ *
+ * @see JdbcAggregatePlusTemplate#setWriteBehindEnabled(boolean)
+ */
+public class JdbcUnitOfWork {
+
+	private final Map<Class<?>, Map<Object, Object>> inserts = new LinkedHashMap<>();
+
+	private final Map<Class<?>, Map<Object, Object>> updates = new LinkedHashMap<>();
+
+	private final Map<Class<?>, Set<Object>> deletes = new LinkedHashMap<>();
+
+	private final Set<SqlIdentifier> tables = new HashSet<>();
+
+	private boolean flushing = false;
+
+	/**
+	 * Queue the insert of {@code entity} whose id is already assigned.
+	 *
+	 * @return {@literal false} if the row is queued for deletion, the queue has
+	 *         to be flushed first.
+	 */
+	public boolean registerInsert(Object entity, Object id, SqlIdentifier table) {
+		if (isDeleted(entity.getClass(), id)) {
+			return false;
+		}
+
+		inserts.computeIfAbsent(entity.getClass(), k -> new LinkedHashMap<>()).put(id, entity);
+		tables.add(table);
+
+		return true;
+	}
+
+	/**
+	 * Queue the update of {@code entity}. A pending insert of the same row takes
+	 * the new state instead.
+	 *
+	 * @return {@literal false} if the row is queued for deletion, the queue has
+	 *         to be flushed first.
+	 */
+	public boolean registerUpdate(Object entity, Object id, SqlIdentifier table) {
+		if (isDeleted(entity.getClass(), id)) {
+			return false;
+		}
+
+		Map<Object, Object> pending = inserts.get(entity.getClass());
+
+		if (pending != null && pending.containsKey(id)) {
+			pending.put(id, entity);
+		} else {
+			updates.computeIfAbsent(entity.getClass(), k -> new LinkedHashMap<>()).put(id, entity);
+		}
+
+		tables.add(table);
+
+		return true;
+	}
+
+	/**
+	 * Queue the delete of the row {@code id}. A pending insert of the same row is
+	 * dropped and nothing is written, a pending update is replaced.
+	 */
+	public void registerDelete(Class<?> entityClass, Object id, SqlIdentifier table) {
+		Map<Object, Object> pending = inserts.get(entityClass);
+
+		if (pending != null && pending.remove(id) != null) {
+			return;
+		}
+
+		pending = updates.get(entityClass);
+
+		if (pending != null) {
+			pending.remove(id);
+		}
+
+		deletes.computeIfAbsent(entityClass, k -> new LinkedHashSet<>()).add(id);
+		tables.add(table);
+	}
+
+	public boolean isEmpty() {
+		return tables.isEmpty();
+	}
+
+	public boolean isFlushing() {
+		return flushing;
+	}
+
+	void setFlushing(boolean flushing) {
+		this.flushing = flushing;
+	}
+
+	/**
+	 * @return pending inserts, parents before children
+	 */
+	public List<Object> getInserts() {
+		List<Object> result = new ArrayList<>();
+
+		for (Class<?> type : getTypesInDependencyOrder()) {
+			if (inserts.containsKey(type)) {
+				result.addAll(inserts.get(type).values());
+			}
+		}
+
+		return result;
+	}
+
+	/**
+	 * @return pending updates per type, parents before children
+	 */
+	public Map<Class<?>, List<Object>> getUpdates() {
+		Map<Class<?>, List<Object>> result = new LinkedHashMap<>();
+
+		for (Class<?> type : getTypesInDependencyOrder()) {
+			if (updates.containsKey(type) && !updates.get(type).isEmpty()) {
+				result.put(type, new ArrayList<>(updates.get(type).values()));
+			}
+		}
+
+		return result;
+	}
+
+	/**
+	 * @return ids of pending deletes per type, children before parents
+	 */
+	public Map<Class<?>, List<Object>> getDeletes() {
+		List<Class<?>> types = getTypesInDependencyOrder();
+		Map<Class<?>, List<Object>> result = new LinkedHashMap<>();
+
+		for (int i = types.size() - 1; i >= 0; i--) {
+			Set<Object> ids = deletes.get(types.get(i));
+
+			if (ids != null && !ids.isEmpty()) {
+				result.put(types.get(i), new ArrayList<>(ids));
+			}
+		}
+
+		return result;
+	}
+
+	public void clear() {
+		inserts.clear();
+		updates.clear();
+		deletes.clear();
+		tables.clear();
+	}
+
+	private boolean isDeleted(Class<?> entityClass, Object id) {
+		Set<Object> ids = deletes.get(entityClass);
+
+		return ids != null && ids.contains(id);
+	}
+
+	/**
+	 * Queued types, each after the types its {@link ManyToOne} fields refer to.
+	 * Types of a reference cycle keep the order they were queued in.
+	 */
+	private List<Class<?>> getTypesInDependencyOrder() {
+		Set<Class<?>> queued = new LinkedHashSet<>();
+		queued.addAll(inserts.keySet());
+		queued.addAll(updates.keySet());
+		queued.addAll(deletes.keySet());
+
+		Set<Class<?>> sorted = new LinkedHashSet<>();
+		Set<Class<?>> visiting = new HashSet<>();
+
+		for (Class<?> type : queued) {
+			visit(type, queued, visiting, sorted);
+		}
+
+		return new ArrayList<>(sorted);
+	}
+
+	private void visit(Class<?> type, Set<Class<?>> queued, Set<Class<?>> visiting, Set<Class<?>> sorted) {
+		if (sorted.contains(type) || !visiting.add(type)) {
+			return;
+		}
+
+		for (Field field : type.getDeclaredFields()) {
+			if (AnnotatedElementUtils.hasAnnotation(field, ManyToOne.class) && queued.contains(field.getType())) {
+				visit(field.getType(), queued, visiting, sorted);
+			}
+		}
+
+		sorted.add(type);
+	}
+
+}
@@ -0,0 +1,234 @@
+package org.springframework.data.jdbc.core;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import org.springframework.data.jdbc.core.convert.JdbcConverter;
+import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.data.relational.core.dialect.Dialect;
+import org.springframework.data.relational.core.dialect.H2Dialect;
+import org.springframework.data.relational.core.dialect.MySqlDialect;
+import org.springframework.data.relational.core.dialect.OracleDialect;
+import org.springframework.data.relational.core.dialect.PostgresDialect;
+import org.springframework.data.relational.core.dialect.SqlServerDialect;
+import org.springframework.data.relational.core.mapping.LazyColumn;
+import org.springframework.data.relational.core.mapping.RelationalMappingContext;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+import org.springframework.data.relational.core.sql.IdentifierProcessing;
+import org.springframework.data.util.Pair;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.util.Assert;
+
+/**
+ * Insert-or-update of entities with application assigned ids in one
+ * statement, rendered for the configured {@link Dialect}:
+ * <ul>
+ * <li>PostgreSQL: {@code INSERT ... ON CONFLICT (id) DO UPDATE}</li>
+ * <li>MySQL: {@code INSERT ... ON DUPLICATE KEY UPDATE}</li>
+ * <li>H2: {@code MERGE INTO ... KEY (id) VALUES ...}</li>
+ * <li>others: standard {@code MERGE INTO ... USING ...}</li>
+ * </ul>
+ * All columns of the row are written, {@link LazyColumn} properties included,
+ * except lazy columns the instance was read without and still holds
+ * {@literal null} for: those keep their stored value.
+ */
+public class JdbcUpsertExecutor {
+
+	private final RelationalMappingContext context;
+
+	private final JdbcConverter converter;
+
+	private final Dialect dialect;
+
+	private final NamedParameterJdbcOperations operations;
+
+	private final LazyColumnTracker lazyColumnTracker;
+
+	private final Map<Pair<Class<?>, Set<RelationalPersistentProperty>>, UpsertStatement> statements = new ConcurrentHashMap<>();
+
+	public JdbcUpsertExecutor(RelationalMappingContext context, JdbcConverter converter, Dialect dialect,
+			NamedParameterJdbcOperations operations, LazyColumnTracker lazyColumnTracker) {
+		this.context = context;
+		this.converter = converter;
+		this.dialect = dialect;
+		this.operations = operations;
+		this.lazyColumnTracker = lazyColumnTracker;
+	}
+
+	/**
+	 * @param instance
+	 * @return number of affected rows as reported by the driver, MySQL counts an
+	 *         updated row twice.
+	 */
+	public int upsert(Object instance) {
+		UpsertStatement statement = getStatement(instance.getClass(), getOmitted(instance));
+
+		return operations.update(statement.sql, getParameterSource(statement, instance));
+	}
+
+	/**
+	 * Upsert {@code instances} of one entity type as a single JDBC batch.
+	 *
+	 * @param instances
+	 * @param entityClass
+	 * @return affected rows per instance
+	 */
+	public int[] upsertAll(List<?> instances, Class<?> entityClass) {
+		Map<Set<RelationalPersistentProperty>, List<Integer>> batches = new LinkedHashMap<>();
+
+		for (int i = 0; i < instances.size(); i++) {
+			batches.computeIfAbsent(getOmitted(instances.get(i)), key -> new ArrayList<>()).add(i);
+		}
+
+		int[] counts = new int[instances.size()];
+
+		batches.forEach((omitted, positions) -> {
+			UpsertStatement statement = getStatement(entityClass, omitted);
+			SqlParameterSource[] batch = new SqlParameterSource[positions.size()];
+
+			for (int i = 0; i < positions.size(); i++) {
+				batch[i] = getParameterSource(statement, instances.get(positions.get(i)));
+			}
+
+			int[] updated = operations.batchUpdate(statement.sql, batch);
+
+			for (int i = 0; i < updated.length; i++) {
+				counts[positions.get(i)] = updated[i];
+			}
+		});
+
+		return counts;
+	}
+
+	public String getUpsertSql(Class<?> entityClass) {
+		return getStatement(entityClass, Collections.emptySet()).sql;
+	}
+
+	/**
+	 * Unfetched lazy columns of {@code instance} that are still {@literal null}.
+	 */
+	private Set<RelationalPersistentProperty> getOmitted(Object instance) {
+		Set<RelationalPersistentProperty> unfetched = lazyColumnTracker.getUnfetched(instance);
+
+		if (unfetched.isEmpty()) {
+			return unfetched;
+		}
+
+		PersistentPropertyAccessor<?> accessor = context.getRequiredPersistentEntity(instance.getClass())
+				.getPropertyAccessor(instance);
+
+		unfetched.removeIf(property -> accessor.getProperty(property) != null);
+
+		return unfetched;
+	}
+
+	private UpsertStatement getStatement(Class<?> entityClass, Set<RelationalPersistentProperty> omitted) {
+		return statements.computeIfAbsent(Pair.of(entityClass, omitted),
+				key -> createStatement(entityClass, omitted));
+	}
+
+	private MapSqlParameterSource getParameterSource(UpsertStatement statement, Object instance) {
+		RelationalPersistentEntity<?> persistentEntity = statement.entity;
+		PersistentPropertyAccessor<?> accessor = persistentEntity.getPropertyAccessor(instance);
+
+		Assert.notNull(accessor.getProperty(persistentEntity.getRequiredIdProperty()),
+				"Upsert requires an assigned id!");
+
+		return JdbcInsertExecutor.getParameterSource(converter, statement.properties, accessor);
+	}
+
+	private UpsertStatement createStatement(Class<?> entityClass, Set<RelationalPersistentProperty> omitted) {
+		RelationalPersistentEntity<?> persistentEntity = context.getRequiredPersistentEntity(entityClass);
+		IdentifierProcessing processing = dialect.getIdentifierProcessing();
+
+		// an omitted column is left out of the insert as well, its value is null
+		List<EntityColumn> properties = EntityColumn.of(context, persistentEntity);
+		properties.removeIf(column -> omitted.contains(column.getProperty()));
+
+		String table = persistentEntity.getTableName().toSql(processing);
+		String id = persistentEntity.getRequiredIdProperty().getColumnName().toSql(processing);
+
+		List<String> columns = new ArrayList<>();
+		List<String> markers = new ArrayList<>();
+		List<String> updated = new ArrayList<>();
+
+		for (int i = 0; i < properties.size(); i++) {
+			String column = properties.get(i).getColumnName().toSql(processing);
+
+			columns.add(column);
+			markers.add(":p" + i);
+
+			if (!properties.get(i).isIdProperty()) {
+				updated.add(column);
+			}
+		}
+
+		String columnList = String.join(", ", columns);
+		String values = String.join(", ", markers);
+
+		String sql;
+
+		if (dialect instanceof PostgresDialect) {
+			sql = String.format("INSERT INTO %s (%s) VALUES (%s) ON CONFLICT (%s) ", table, columnList, values, id)
+					+ (updated.isEmpty() ? "DO NOTHING"
+							: "DO UPDATE SET " + updated.stream().map(c -> c + " = EXCLUDED." + c)
+									.collect(Collectors.joining(", ")));
+		} else if (dialect instanceof MySqlDialect) {
+			sql = String.format("INSERT INTO %s (%s) VALUES (%s) ON DUPLICATE KEY UPDATE %s", table, columnList,
+					values, (updated.isEmpty() ? Collections.singletonList(id) : updated).stream()
+							.map(c -> c + " = VALUES(" + c + ")").collect(Collectors.joining(", ")));
+		} else if (dialect instanceof H2Dialect) {
+			sql = String.format("MERGE INTO %s (%s) KEY (%s) VALUES (%s)", table, columnList, id, values);
+		} else {
+			String source;
+
+			if (dialect instanceof OracleDialect) {
+				List<String> aliased = new ArrayList<>();
+
+				for (int i = 0; i < columns.size(); i++) {
+					aliased.add(markers.get(i) + " " + columns.get(i));
+				}
+
+				source = "(SELECT " + String.join(", ", aliased) + " FROM DUAL) S";
+			} else {
+				source = "(VALUES (" + values + ")) AS S (" + columnList + ")";
+			}
+
+			sql = String.format("MERGE INTO %s T USING %s ON (T.%s = S.%s)", table, source, id, id)
+					+ (updated.isEmpty() ? ""
+							: " WHEN MATCHED THEN UPDATE SET "
+									+ updated.stream().map(c -> "T." + c + " = S." + c).collect(Collectors.joining(", ")))
+					+ " WHEN NOT MATCHED THEN INSERT (" + columnList + ") VALUES ("
+					+ columns.stream().map(c -> "S." + c).collect(Collectors.joining(", ")) + ")"
+					+ (dialect instanceof SqlServerDialect ? ";" : "");
+		}
+
+		return new UpsertStatement(persistentEntity, properties, sql);
+	}
+
+	private static class UpsertStatement {
+
+		private final RelationalPersistentEntity<?> entity;
+
+		private final List<EntityColumn> properties;
+
+		private final String sql;
+
+		UpsertStatement(RelationalPersistentEntity<?> entity, List<EntityColumn> properties, String sql) {
+			this.entity = entity;
+			this.properties = properties;
+			this.sql = sql;
+		}
+
+	}
+
+}
@@ -0,0 +1,124 @@
+package org.springframework.data.jdbc.core;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.data.relational.core.mapping.LazyColumn;
+import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+
+/**
+ * Remembers the {@link LazyColumn} properties an entity instance was read
+ * without, so that an update of the instance can leave those columns alone
+ * instead of overwriting the stored values with {@literal null}.
+ * <p>
+ * Instances are held by identity and weakly, entities need neither stable
+ * {@code hashCode}s nor an explicit release. Thread safe without locking the
+ * read path.
+ */
+public class LazyColumnTracker {
+
+	// values are never modified, updates replace them
+	private final Map<Key, Set<RelationalPersistentProperty>> unfetched = new ConcurrentHashMap<>();
+
+	private final ReferenceQueue<Object> queue = new ReferenceQueue<>();
+
+	/**
+	 * Record that {@code entity} was read without {@code properties}.
+	 *
+	 * @param entity
+	 * @param properties lazy properties that were not selected
+	 */
+	public void unfetched(Object entity, Collection<RelationalPersistentProperty> properties) {
+		if (properties.isEmpty()) {
+			return;
+		}
+
+		purge();
+		unfetched.merge(new Key(entity, queue), Collections.unmodifiableSet(new LinkedHashSet<>(properties)),
+				(current, added) -> {
+					Set<RelationalPersistentProperty> union = new LinkedHashSet<>(current);
+					union.addAll(added);
+					return Collections.unmodifiableSet(union);
+				});
+	}
+
+	/**
+	 * Record that {@code properties} of {@code entity} hold the stored values or
+	 * were written.
+	 *
+	 * @param entity
+	 * @param properties
+	 */
+	public void fetched(Object entity, Collection<RelationalPersistentProperty> properties) {
+		if (unfetched.isEmpty()) {
+			return;
+		}
+
+		unfetched.computeIfPresent(new Key(entity, null), (key, current) -> {
+			Set<RelationalPersistentProperty> missing = new LinkedHashSet<>(current);
+			missing.removeAll(properties);
+			return missing.isEmpty() ? null : Collections.unmodifiableSet(missing);
+		});
+	}
+
+	/**
+	 * @param entity
+	 * @return the lazy properties {@code entity} was read without
+	 */
+	public Set<RelationalPersistentProperty> getUnfetched(Object entity) {
+		if (unfetched.isEmpty()) {
+			return Collections.emptySet();
+		}
+
+		Set<RelationalPersistentProperty> missing = unfetched.get(new Key(entity, null));
+
+		return missing == null ? Collections.emptySet() : new LinkedHashSet<>(missing);
+	}
+
+	private void purge() {
+		Reference<?> reference;
+
+		while ((reference = queue.poll()) != null) {
+			unfetched.remove(reference);
+		}
+	}
+
+	private static class Key extends WeakReference<Object> {
+
+		private final int hash;
+
+		Key(Object referent, ReferenceQueue<Object> queue) {
+			super(referent, queue);
+			this.hash = System.identityHashCode(referent);
+		}
+
+		@Override
+		public boolean equals(Object other) {
+			if (this == other) {
+				return true;
+			}
+
+			if (!(other instanceof Key)) {
+				return false;
+			}
+
+			Object referent = get();
+
+			return referent != null && referent == ((Key) other).get();
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+
+	}
+
+}
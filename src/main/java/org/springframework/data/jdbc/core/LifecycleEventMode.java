@@ -0,0 +1,28 @@
+package org.springframework.data.jdbc.core;
+
+import org.springframework.data.relational.core.mapping.event.AfterLoadBatchEvent;
+import org.springframework.data.relational.core.mapping.event.AfterLoadEvent;
+
+/**
+ * How a {@link JdbcAggregateTemplate} publishes entity lifecycle events for
+ * the calls run through {@link JdbcAggregateTemplate#withEventMode}. Entity
+ * callbacks are invoked in every mode.
+ */
+public enum LifecycleEventMode {
+
+	/**
+	 * One {@link AfterLoadEvent} per loaded entity.
+	 */
+	PER_ENTITY,
+
+	/**
+	 * One {@link AfterLoadBatchEvent} per loaded result, other events as usual.
+	 */
+	BATCH,
+
+	/**
+	 * No events at all.
+	 */
+	NONE
+
+}
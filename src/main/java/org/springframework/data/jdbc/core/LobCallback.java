@@ -0,0 +1,17 @@
+package org.springframework.data.jdbc.core;
+
+import java.io.IOException;
+
+/**
+ * Callback that consumes a LOB stream while its {@link java.sql.ResultSet} is
+ * still open. The stream must not be used after the callback returns.
+ *
+ * @param <S> {@link java.io.InputStream} or {@link java.io.Reader}
+ * @param <T> result type
+ */
+@FunctionalInterface
+public interface LobCallback<S, T> {
+
+	T doWithLob(S stream) throws IOException;
+
+}
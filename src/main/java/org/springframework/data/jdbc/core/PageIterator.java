@@ -0,0 +1,183 @@
+package org.springframework.data.jdbc.core;
+
+import java.io.Closeable;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * Pages of a query read ahead on a background thread: while the caller
+ * processes a page, up to {@code prefetch} following pages are fetched, so
+ * that no more than {@code prefetch} pages wait in memory. Each
+ * page is fetched from the previous one, which allows keyset pagination.
+ * Iteration ends with the first page shorter than the page size.
+ * <p>
+ * {@link #close()} stops reading ahead, a failed fetch is rethrown by
+ * {@link #hasNext()}.
+ *
+ * @see JdbcAggregatePlusTemplate#findPages
+ */
+public class PageIterator<T> implements Iterator<List<T>>, Closeable {
+
+	private static final Object END = new Object();
+
+	private final UnaryOperator<List<T>> nextPage;
+
+	private final int pageSize;
+
+	private final BlockingQueue<Object> pages = new LinkedBlockingQueue<>();
+
+	/**
+	 * Pages that may be fetched before the caller asks for them.
+	 */
+	private final Semaphore permits;
+
+	private volatile boolean closed = false;
+
+	@Nullable
+	private Object next;
+
+	private boolean done = false;
+
+	/**
+	 * @param nextPage page following the given one, {@literal null} for the
+	 *                 first page
+	 * @param pageSize
+	 * @param prefetch
+	 * @param executor runs the read ahead, {@literal null} for a thread of its
+	 *                 own
+	 */
+	PageIterator(UnaryOperator<List<T>> nextPage, int pageSize, int prefetch, @Nullable Executor executor) {
+		this.nextPage = nextPage;
+		this.pageSize = pageSize;
+		this.permits = new Semaphore(prefetch);
+
+		if (executor != null) {
+			executor.execute(this::fetch);
+		} else {
+			Thread thread = new Thread(this::fetch, "jdbc-page-prefetch");
+			thread.setDaemon(true);
+			thread.start();
+		}
+	}
+
+	@Override
+	public boolean hasNext() {
+		if (done) {
+			return false;
+		}
+
+		if (next == null) {
+			next = take();
+		}
+
+		if (next == END) {
+			done = true;
+			return false;
+		}
+
+		if (next instanceof RuntimeException) {
+			done = true;
+			throw (RuntimeException) next;
+		}
+
+		return true;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public List<T> next() {
+		if (!hasNext()) {
+			throw new NoSuchElementException();
+		}
+
+		List<T> page = (List<T>) next;
+		next = null;
+		permits.release();
+
+		return page;
+	}
+
+	/**
+	 * @return the pages, closing the stream closes this iterator
+	 */
+	public Stream<List<T>> stream() {
+		return StreamSupport
+				.stream(Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED | Spliterator.NONNULL), false)
+				.onClose(this::close);
+	}
+
+	/**
+	 * Stop reading ahead. A fetch in progress completes, its page is dropped.
+	 */
+	@Override
+	public void close() {
+		closed = true;
+		done = true;
+		pages.clear();
+	}
+
+	private void fetch() {
+		List<T> page = null;
+
+		try {
+			while (acquire()) {
+				page = nextPage.apply(page);
+
+				if (!page.isEmpty()) {
+					pages.add(page);
+				}
+
+				if (page.size() < pageSize) {
+					break;
+				}
+			}
+
+			pages.add(END);
+		} catch (RuntimeException e) {
+			pages.add(e);
+		}
+	}
+
+	/**
+	 * Wait until the caller has taken enough pages to fetch the next one.
+	 *
+	 * @return {@literal false} once the iterator is closed
+	 */
+	private boolean acquire() {
+		try {
+			while (!closed) {
+				if (permits.tryAcquire(100, TimeUnit.MILLISECONDS)) {
+					return !closed;
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+
+		return false;
+	}
+
+	private Object take() {
+		try {
+			return pages.take();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			close();
+			throw new IllegalStateException("Interrupted while waiting for the next page", e);
+		}
+	}
+
+}
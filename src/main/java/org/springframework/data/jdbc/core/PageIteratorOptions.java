@@ -0,0 +1,33 @@
+package org.springframework.data.jdbc.core;
+
+import java.util.concurrent.Executor;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 预读分页迭代的参数
+ *
+ */
+@Getter
+@Builder
+public class PageIteratorOptions {
+
+	/**
+	 * 每页的实体数
+	 */
+	@Builder.Default
+	int pageSize = 1000;
+
+	/**
+	 * 调用方处理当前页时最多预先读取的页数
+	 */
+	@Builder.Default
+	int prefetch = 1;
+
+	/**
+	 * 执行预读的线程池，默认每个迭代器创建一个线程
+	 */
+	Executor executor;
+
+}
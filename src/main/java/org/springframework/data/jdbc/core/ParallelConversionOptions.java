@@ -0,0 +1,33 @@
+package org.springframework.data.jdbc.core;
+
+import java.util.concurrent.ForkJoinPool;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 查询结果并行转换为实体的参数
+ *
+ */
+@Getter
+@Builder
+public class ParallelConversionOptions {
+
+	/**
+	 * 每个转换任务包含的行数
+	 */
+	@Builder.Default
+	int batchSize = 256;
+
+	/**
+	 * 已读取、等待转换的批次数上限，决定内存占用
+	 */
+	@Builder.Default
+	int pendingBatches = Runtime.getRuntime().availableProcessors() * 2;
+
+	/**
+	 * 执行转换的线程池，默认为公共池
+	 */
+	ForkJoinPool pool;
+
+}
@@ -0,0 +1,38 @@
+package org.springframework.data.jdbc.core;
+
+import java.util.concurrent.Executor;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 并行分区查询的参数
+ *
+ */
+@Getter
+@Builder
+public class ParallelScanOptions {
+
+	/**
+	 * 分区数，按分区字段的最小值、最大值等宽切分
+	 */
+	@Builder.Default
+	int partitions = 4;
+
+	/**
+	 * 每次交给消费者的实体数，每个分区最多占用一块
+	 */
+	@Builder.Default
+	int chunkSize = 1000;
+
+	/**
+	 * 分区字段，必须是整数类型，默认为主键
+	 */
+	String partitionProperty;
+
+	/**
+	 * 执行分区的线程池，默认每次查询创建分区数个线程
+	 */
+	Executor executor;
+
+}
@@ -14,6 +14,7 @@ import org.springframework.data.jdbc.repository.query.DefaultParametrizedQuery;
 import org.springframework.data.relational.core.query.Criteria;
 import org.springframework.data.relational.core.query.CriteriaDefinition;
 import org.springframework.data.relational.core.query.Query;
+import org.springframework.data.relational.core.query.Update;
 import org.springframework.data.relational.core.sql.Expression;
 import org.springframework.data.relational.core.sql.SqlIdentifier;
 import org.springframework.data.relational.core.sql.Table;
@@ -28,6 +29,10 @@ public interface StatementMapper {
 	
 	DefaultParametrizedQuery getMappedObject(Query query);
 
+	DefaultParametrizedQuery getMappedObject(UpdateSpec updateSpec);
+
+	DefaultParametrizedQuery getMappedObject(DeleteSpec deleteSpec);
+
 	default SelectSpec createSelect(String table) {
 		return SelectSpec.create(table);
 	}
@@ -36,6 +41,14 @@ public interface StatementMapper {
 		return SelectSpec.create(table);
 	}
 
+	default UpdateSpec createUpdate(SqlIdentifier table, Update update) {
+		return UpdateSpec.create(table, update);
+	}
+
+	default DeleteSpec createDelete(SqlIdentifier table) {
+		return DeleteSpec.create(table);
+	}
+
 	default RenderContext getRenderContext() {
 		return null;
 	}
@@ -279,4 +292,99 @@ public interface StatementMapper {
 		}
 	}
 
+	/**
+	 * {@code UPDATE} UpdateSpec.
+	 */
+	public static class UpdateSpec {
+
+		private final Table table;
+		private final Update update;
+		private final @Nullable CriteriaDefinition criteria;
+
+		protected UpdateSpec(Table table, Update update, @Nullable CriteriaDefinition criteria) {
+			this.table = table;
+			this.update = update;
+			this.criteria = criteria;
+		}
+
+		/**
+		 * Create an {@code UPDATE} specification for {@code table}.
+		 *
+		 * @param table
+		 * @param update
+		 * @return the {@link UpdateSpec}.
+		 */
+		public static UpdateSpec create(SqlIdentifier table, Update update) {
+			return new UpdateSpec(Table.create(table), update, Criteria.empty());
+		}
+
+		/**
+		 * Associate a {@link Criteria} with the update and return a new
+		 * {@link UpdateSpec}.
+		 *
+		 * @param criteria
+		 * @return the {@link UpdateSpec}.
+		 */
+		public UpdateSpec withCriteria(CriteriaDefinition criteria) {
+			return new UpdateSpec(this.table, this.update, criteria);
+		}
+
+		public Table getTable() {
+			return this.table;
+		}
+
+		public Update getUpdate() {
+			return this.update;
+		}
+
+		@Nullable
+		public CriteriaDefinition getCriteria() {
+			return this.criteria;
+		}
+	}
+
+	/**
+	 * {@code DELETE} DeleteSpec.
+	 */
+	public static class DeleteSpec {
+
+		private final Table table;
+		private final @Nullable CriteriaDefinition criteria;
+
+		protected DeleteSpec(Table table, @Nullable CriteriaDefinition criteria) {
+			this.table = table;
+			this.criteria = criteria;
+		}
+
+		/**
+		 * Create an {@code DELETE} specification for {@code table}.
+		 *
+		 * @param table
+		 * @return the {@link DeleteSpec}.
+		 */
+		public static DeleteSpec create(SqlIdentifier table) {
+			return new DeleteSpec(Table.create(table), Criteria.empty());
+		}
+
+		/**
+		 * Associate a {@link Criteria} with the delete and return a new
+		 * {@link DeleteSpec}.
+		 *
+		 * @param criteria
+		 * @return the {@link DeleteSpec}.
+		 */
+		public DeleteSpec withCriteria(CriteriaDefinition criteria) {
+			return new DeleteSpec(this.table, criteria);
+		}
+
+		public Table getTable() {
+			return this.table;
+		}
+
+		@Nullable
+		public CriteriaDefinition getCriteria() {
+			return this.criteria;
+		}
+	}
+
 }
@@ -0,0 +1,74 @@
+package org.springframework.data.jdbc.core.convert;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import org.springframework.data.jdbc.core.convert.EntityRowMapperFactory.EntityMetadata;
+import org.springframework.data.jdbc.core.convert.EntityRowMapperFactory.PropertyWriter;
+import org.springframework.data.mapping.MappingException;
+import org.springframework.jdbc.core.RowMapper;
+
+/**
+ * {@link RowMapper} created by {@link EntityRowMapperFactory}. The column
+ * layout is resolved from the {@link java.sql.ResultSetMetaData} on the first
+ * row and reused for all following rows of the same result set.
+ */
+public class CompiledEntityRowMapper<T> implements RowMapper<T> {
+
+	private final EntityMetadata<T> metadata;
+
+	private ResultSet resultSet;
+
+	private PropertyWriter[] layout;
+
+	CompiledEntityRowMapper(EntityMetadata<T> metadata) {
+		this.metadata = metadata;
+	}
+
+	@Override
+	public T mapRow(ResultSet rs, int rowNum) throws SQLException {
+		T instance = metadata.newInstance();
+
+		mapInto(rs, instance);
+
+		return instance;
+	}
+
+	/**
+	 * Write the current row of {@code rs} into an existing {@code instance}.
+	 *
+	 * @param rs
+	 * @param instance
+	 * @throws SQLException
+	 */
+	public void mapInto(ResultSet rs, T instance) throws SQLException {
+		PropertyWriter[] layout = getLayout(rs);
+
+		for (int i = 0; i < layout.length; i++) {
+			PropertyWriter writer = layout[i];
+
+			if (writer == null) {
+				continue;
+			}
+
+			try {
+				writer.write(rs, i + 1, instance);
+			} catch (SQLException | RuntimeException e) {
+				throw e;
+			} catch (Throwable e) {
+				throw new MappingException("Could not set property " + writer.property.getName() + " of "
+						+ metadata.type.getName(), e);
+			}
+		}
+	}
+
+	private PropertyWriter[] getLayout(ResultSet rs) throws SQLException {
+		if (this.layout == null || this.resultSet != rs) {
+			this.layout = metadata.getLayout(rs.getMetaData());
+			this.resultSet = rs;
+		}
+
+		return this.layout;
+	}
+
+}
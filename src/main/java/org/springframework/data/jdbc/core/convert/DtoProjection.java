@@ -0,0 +1,68 @@
+package org.springframework.data.jdbc.core.convert;
+
+import java.lang.invoke.MethodHandle;
+import java.util.Collections;
+import java.util.List;
+
+import org.springframework.data.mapping.MappingException;
+import org.springframework.data.util.TypeInformation;
+
+/**
+ * Constructor based projection of an entity into a DTO. Every constructor
+ * parameter is bound to an entity property path which determines the selected
+ * column, dotted paths are resolved into joins.
+ * 
+ * @see org.springframework.data.relational.core.mapping.ProjectionPath
+ */
+public class DtoProjection<T> {
+
+	private final Class<T> type;
+
+	private final List<String> paths;
+
+	private final String[] labels;
+
+	private final TypeInformation<?>[] parameterTypes;
+
+	private final MethodHandle constructor;
+
+	DtoProjection(Class<T> type, List<String> paths, String[] labels, TypeInformation<?>[] parameterTypes,
+			MethodHandle constructor) {
+		this.type = type;
+		this.paths = Collections.unmodifiableList(paths);
+		this.labels = labels;
+		this.parameterTypes = parameterTypes;
+		this.constructor = constructor;
+	}
+
+	public Class<T> getType() {
+		return type;
+	}
+
+	/**
+	 * Entity property paths to select, in constructor parameter order.
+	 *
+	 * @return
+	 */
+	public List<String> getPaths() {
+		return paths;
+	}
+
+	String[] getLabels() {
+		return labels;
+	}
+
+	TypeInformation<?>[] getParameterTypes() {
+		return parameterTypes;
+	}
+
+	@SuppressWarnings("unchecked")
+	T newInstance(Object[] arguments) {
+		try {
+			return (T) (Object) constructor.invokeExact(arguments);
+		} catch (Throwable e) {
+			throw new MappingException("Could not instantiate " + type.getName(), e);
+		}
+	}
+
+}
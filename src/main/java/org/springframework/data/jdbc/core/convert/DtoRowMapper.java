@@ -0,0 +1,79 @@
+package org.springframework.data.jdbc.core.convert;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.util.TypeInformation;
+import org.springframework.jdbc.core.RowMapper;
+
+/**
+ * {@link RowMapper} reading rows straight into the constructor of a
+ * {@link DtoProjection} without an intermediate entity.
+ */
+public class DtoRowMapper<T> implements RowMapper<T> {
+
+	private final EntityRowMapperFactory factory;
+
+	private final DtoProjection<T> projection;
+
+	private ResultSet resultSet;
+
+	private int[] indexes;
+
+	DtoRowMapper(EntityRowMapperFactory factory, DtoProjection<T> projection) {
+		this.factory = factory;
+		this.projection = projection;
+	}
+
+	@Override
+	public T mapRow(ResultSet rs, int rowNum) throws SQLException {
+		int[] indexes = getIndexes(rs);
+		TypeInformation<?>[] parameterTypes = projection.getParameterTypes();
+		Object[] arguments = new Object[indexes.length];
+
+		for (int i = 0; i < indexes.length; i++) {
+			Class<?> type = parameterTypes[i].getType();
+			Object value = factory.readValue(rs, indexes[i], type, parameterTypes[i]);
+
+			arguments[i] = value == null && type.isPrimitive() ? EntityRowMapperFactory.getDefaultValue(type) : value;
+		}
+
+		return projection.newInstance(arguments);
+	}
+
+	private int[] getIndexes(ResultSet rs) throws SQLException {
+		if (this.indexes == null || this.resultSet != rs) {
+			ResultSetMetaData metaData = rs.getMetaData();
+			Map<String, Integer> columns = new HashMap<>();
+
+			for (int i = metaData.getColumnCount(); i > 0; i--) {
+				columns.put(metaData.getColumnLabel(i).toLowerCase(Locale.ROOT), i);
+			}
+
+			String[] labels = projection.getLabels();
+			int[] indexes = new int[labels.length];
+
+			for (int i = 0; i < labels.length; i++) {
+				Integer index = columns.get(labels[i]);
+
+				if (index == null) {
+					throw new InvalidDataAccessApiUsageException("Column " + labels[i] + " for "
+							+ projection.getType().getName() + " not found in result set");
+				}
+
+				indexes[i] = index;
+			}
+
+			this.indexes = indexes;
+			this.resultSet = rs;
+		}
+
+		return this.indexes;
+	}
+
+}
@@ -0,0 +1,535 @@
+package org.springframework.data.jdbc.core.convert;
+
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Clob;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.BeanUtils;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.convert.CustomConversions;
+import org.springframework.data.mapping.MappingException;
+import org.springframework.data.mapping.PreferredConstructor;
+import org.springframework.data.mapping.model.PreferredConstructorDiscoverer;
+import org.springframework.data.relational.core.conversion.BasicRelationalConverter;
+import org.springframework.data.relational.core.mapping.ManyToMany;
+import org.springframework.data.relational.core.mapping.ManyToOne;
+import org.springframework.data.relational.core.mapping.NamingStrategy;
+import org.springframework.data.relational.core.mapping.OneToMany;
+import org.springframework.data.relational.core.mapping.ProjectionPath;
+import org.springframework.data.relational.core.mapping.RelationalMappingContext;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+import org.springframework.data.relational.core.mapping.Table;
+import org.springframework.data.relational.core.sql.IdentifierProcessing;
+import org.springframework.data.util.ClassTypeInformation;
+import org.springframework.data.util.Pair;
+import org.springframework.data.util.TypeInformation;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ConcurrentReferenceHashMap;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.util.StringUtils;
+
+/**
+ * Creates {@link RowMapper}s which resolve the column layout of a result set
+ * once and write values through cached {@link MethodHandle}s instead of the
+ * generic {@link EntityRowMapper} machinery. Entities that need constructor
+ * arguments, embedded or nested entities fall back to {@link EntityRowMapper}.
+ */
+public class EntityRowMapperFactory {
+
+	private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class);
+
+	/**
+	 * Column layouts cached per entity, result sets of further layouts resolve
+	 * theirs per result set.
+	 */
+	private static final int MAX_LAYOUTS = 64;
+
+	/**
+	 * Value types JDBC drivers return for the columns of the fast path types.
+	 */
+	private static final Class<?>[] JDBC_VALUE_TYPES = { String.class, Long.class, Integer.class, Short.class,
+			Byte.class, Double.class, Float.class, BigDecimal.class, BigInteger.class, Boolean.class, byte[].class,
+			Clob.class };
+
+	/**
+	 * Factories shared by the templates and repository queries of a converter.
+	 */
+	private static final Map<JdbcConverter, EntityRowMapperFactory> SHARED = new ConcurrentReferenceHashMap<>();
+
+	private final JdbcConverter converter;
+
+	private final RelationalMappingContext context;
+
+	private final Map<Class<?>, Optional<EntityMetadata<?>>> metadataCache = new ConcurrentHashMap<>();
+
+	private final Map<Class<?>, Optional<EntityMetadata<?>>> scanMetadataCache = new ConcurrentHashMap<>();
+
+	private final Map<Pair<Class<?>, Class<?>>, DtoProjection<?>> projectionCache = new ConcurrentHashMap<>();
+
+	private final Map<Class<?>, Boolean> customReadTargets = new ConcurrentHashMap<>();
+
+	private final Map<Pair<Class<?>, Class<?>>, Boolean> dtoProjections = new ConcurrentHashMap<>();
+
+	public EntityRowMapperFactory(JdbcConverter converter, RelationalMappingContext context) {
+		Assert.notNull(converter, "JdbcConverter must not be null!");
+		Assert.notNull(context, "RelationalMappingContext must not be null!");
+
+		this.converter = converter;
+		this.context = context;
+	}
+
+	/**
+	 * The factory shared by everything mapping rows through {@code converter},
+	 * so that compiled mappers and DTO projections are resolved once.
+	 *
+	 * @param converter
+	 * @param context   the mapping context of {@code converter}
+	 * @return
+	 */
+	public static EntityRowMapperFactory getShared(JdbcConverter converter, RelationalMappingContext context) {
+		return SHARED.computeIfAbsent(converter, key -> new EntityRowMapperFactory(converter, context));
+	}
+
+	@SuppressWarnings("unchecked")
+	public <T> RowMapper<T> getRowMapper(Class<T> type) {
+		RelationalPersistentEntity<T> entity = (RelationalPersistentEntity<T>) context
+				.getRequiredPersistentEntity(type);
+
+		EntityMetadata<T> metadata = getMetadata(entity);
+
+		if (metadata == null) {
+			return new EntityRowMapper<>(entity, converter);
+		}
+
+		return new CompiledEntityRowMapper<>(metadata);
+	}
+
+	/**
+	 * @param type
+	 * @return whether {@link #getRowMapper(Class)} maps {@code type} without
+	 *         falling back to {@link EntityRowMapper}, which may query related
+	 *         entities while mapping a row
+	 */
+	public boolean isCompiled(Class<?> type) {
+		return getMetadata(context.getRequiredPersistentEntity(type)) != null;
+	}
+
+	/**
+	 * Compiled {@link RowMapper} for scans that reuse instances through
+	 * {@link CompiledEntityRowMapper#mapInto}. Properties of
+	 * {@link ManyToOne}, {@link OneToMany} and {@link ManyToMany} relations are
+	 * left untouched, {@code byte[]} properties are read as binary columns.
+	 *
+	 * @param type
+	 * @return {@literal null} if {@code type} needs constructor arguments or has
+	 *         other properties only {@link EntityRowMapper} can read
+	 */
+	@Nullable
+	@SuppressWarnings("unchecked")
+	public <T> CompiledEntityRowMapper<T> getScanRowMapper(Class<T> type) {
+		RelationalPersistentEntity<T> entity = (RelationalPersistentEntity<T>) context
+				.getRequiredPersistentEntity(type);
+
+		EntityMetadata<T> metadata = (EntityMetadata<T>) scanMetadataCache
+				.computeIfAbsent(type, key -> Optional.ofNullable(createMetadata(entity, true))).orElse(null);
+
+		return metadata == null ? null : new CompiledEntityRowMapper<>(metadata);
+	}
+
+	/**
+	 * Create a {@link RowMapper} reading rows of {@code domainType} queries into
+	 * the constructor of {@code dtoType}.
+	 *
+	 * @param dtoType
+	 * @param domainType
+	 * @return
+	 */
+	public <T> RowMapper<T> getDtoRowMapper(Class<T> dtoType, Class<?> domainType) {
+		return new DtoRowMapper<>(this, getDtoProjection(dtoType, domainType));
+	}
+
+	/**
+	 * Whether {@code returnType} is a class based DTO projection of
+	 * {@code domainType}, i.e. a non simple class which is not the entity itself
+	 * nor any other entity and is created through a constructor with parameters.
+	 * The DTO is not added to the mapping context.
+	 *
+	 * @param returnType
+	 * @param domainType
+	 * @return
+	 */
+	public boolean isDtoProjection(Class<?> returnType, Class<?> domainType) {
+		return dtoProjections.computeIfAbsent(Pair.of(returnType, domainType), key -> {
+			if (returnType.isInterface() || returnType.isArray() || returnType.isEnum()
+					|| returnType.isAssignableFrom(domainType) || isSimpleType(returnType) || isEntity(returnType)) {
+				return false;
+			}
+
+			PreferredConstructor<?, ?> constructor = PreferredConstructorDiscoverer.discover(returnType);
+
+			return constructor != null && constructor.hasParameters();
+		});
+	}
+
+	private boolean isSimpleType(Class<?> type) {
+		return converter instanceof BasicRelationalConverter
+				? ((BasicRelationalConverter) converter).getConversions().isSimpleType(type)
+				: BeanUtils.isSimpleValueType(type);
+	}
+
+	/**
+	 * A registered entity, or a class declaring a table or an id.
+	 */
+	private boolean isEntity(Class<?> type) {
+		if (context.hasPersistentEntityFor(type) || AnnotatedElementUtils.hasAnnotation(type, Table.class)) {
+			return true;
+		}
+
+		boolean[] id = new boolean[1];
+
+		ReflectionUtils.doWithFields(type, field -> id[0] = true,
+				field -> AnnotatedElementUtils.hasAnnotation(field, Id.class));
+
+		return id[0];
+	}
+
+	@SuppressWarnings("unchecked")
+	public <T> DtoProjection<T> getDtoProjection(Class<T> dtoType, Class<?> domainType) {
+		return (DtoProjection<T>) projectionCache.computeIfAbsent(Pair.of(dtoType, domainType),
+				key -> createDtoProjection(dtoType, context.getRequiredPersistentEntity(domainType)));
+	}
+
+	private <T> DtoProjection<T> createDtoProjection(Class<T> dtoType, RelationalPersistentEntity<?> entity) {
+		PreferredConstructor<T, ?> constructor = PreferredConstructorDiscoverer.discover(dtoType);
+
+		if (constructor == null || !constructor.hasParameters()) {
+			throw new MappingException("No constructor with parameters found for DTO " + dtoType.getName());
+		}
+
+		NamingStrategy namingStrategy = context.getNamingStrategy();
+		Constructor<T> ctor = constructor.getConstructor();
+		Annotation[][] parameterAnnotations = ctor.getParameterAnnotations();
+		List<? extends PreferredConstructor.Parameter<Object, ?>> parameters = constructor.getParameters();
+
+		List<String> paths = new ArrayList<>(parameters.size());
+		String[] labels = new String[parameters.size()];
+		TypeInformation<?>[] parameterTypes = new TypeInformation<?>[parameters.size()];
+
+		for (int i = 0; i < parameters.size(); i++) {
+			PreferredConstructor.Parameter<Object, ?> parameter = parameters.get(i);
+			ProjectionPath projectionPath = i < parameterAnnotations.length
+					? findAnnotation(parameterAnnotations[i], ProjectionPath.class)
+					: null;
+
+			String path = projectionPath != null ? projectionPath.value() : parameter.getName();
+
+			if (!StringUtils.hasText(path)) {
+				throw new MappingException("Cannot resolve the name of parameter " + i + " of " + dtoType.getName()
+						+ ", compile with -parameters or use @ProjectionPath");
+			}
+
+			if (path.indexOf('.') != -1) {
+				labels[i] = namingStrategy.getColumnAlias(path).toLowerCase(Locale.ROOT);
+			} else {
+				RelationalPersistentProperty property = entity.getPersistentProperty(path);
+
+				if (property == null) {
+					throw new MappingException("No property " + path + " found on " + entity.getType().getName()
+							+ " for DTO " + dtoType.getName());
+				}
+
+				labels[i] = property.getColumnName().getReference(IdentifierProcessing.NONE).toLowerCase(Locale.ROOT);
+			}
+
+			paths.add(path);
+			parameterTypes[i] = parameter.getType();
+		}
+
+		try {
+			ReflectionUtils.makeAccessible(ctor);
+			MethodHandle handle = MethodHandles.lookup().unreflectConstructor(ctor)
+					.asSpreader(Object[].class, parameters.size())
+					.asType(MethodType.methodType(Object.class, Object[].class));
+
+			return new DtoProjection<>(dtoType, paths, labels, parameterTypes, handle);
+		} catch (IllegalAccessException e) {
+			throw new MappingException("Cannot access constructor of " + dtoType.getName(), e);
+		}
+	}
+
+	@Nullable
+	private static <A extends Annotation> A findAnnotation(Annotation[] annotations, Class<A> type) {
+		for (Annotation annotation : annotations) {
+			if (type.isInstance(annotation)) {
+				return type.cast(annotation);
+			}
+		}
+
+		return null;
+	}
+
+	static Object getDefaultValue(Class<?> primitiveType) {
+		return Array.get(Array.newInstance(primitiveType, 1), 0);
+	}
+
+	@Nullable
+	@SuppressWarnings("unchecked")
+	<T> EntityMetadata<T> getMetadata(RelationalPersistentEntity<T> entity) {
+		return (EntityMetadata<T>) metadataCache
+				.computeIfAbsent(entity.getType(), type -> Optional.ofNullable(createMetadata(entity, false))).orElse(null);
+	}
+
+	@Nullable
+	private <T> EntityMetadata<T> createMetadata(RelationalPersistentEntity<T> entity, boolean scan) {
+		PreferredConstructor<T, RelationalPersistentProperty> constructor = entity.getPersistenceConstructor();
+
+		if (constructor == null || constructor.hasParameters()) {
+			return null;
+		}
+
+		MethodHandles.Lookup lookup = MethodHandles.lookup();
+		Map<String, PropertyWriter> writers = new HashMap<>();
+
+		try {
+			Constructor<T> ctor = constructor.getConstructor();
+			ReflectionUtils.makeAccessible(ctor);
+			MethodHandle instantiator = lookup.unreflectConstructor(ctor)
+					.asType(MethodType.methodType(Object.class));
+
+			for (RelationalPersistentProperty property : entity) {
+				// binary columns are read as a single value
+				boolean binary = scan && property.getType() == byte[].class;
+
+				if (property.isEntity() || property.isEmbedded() || (property.isCollectionLike() && !binary)
+						|| property.isMap()) {
+					return null;
+				}
+
+				Field field = property.getField();
+
+				if (field == null || Modifier.isFinal(field.getModifiers())) {
+					return null;
+				}
+
+				ReflectionUtils.makeAccessible(field);
+
+				String column = property.getColumnName().getReference(IdentifierProcessing.NONE);
+				writers.put(column.toLowerCase(Locale.ROOT), new PropertyWriter(property, lookup.unreflectSetter(field)));
+			}
+
+			return new EntityMetadata<>(entity.getType(), instantiator, writers);
+		} catch (IllegalAccessException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Read a single column as {@code type}. Wrapper types and {@link String} are
+	 * read through the typed {@link ResultSet} getters unless a custom reading
+	 * converter targets them, everything else is converted by the
+	 * {@link JdbcConverter}.
+	 */
+	@Nullable
+	Object readValue(ResultSet rs, int index, Class<?> type, TypeInformation<?> typeInformation)
+			throws SQLException {
+		if (hasCustomReadTarget(type)) {
+			// converters of primitives are registered for the wrapper
+			return converter.readValue(rs.getObject(index), type.isPrimitive()
+					? ClassTypeInformation.from(ClassUtils.resolvePrimitiveIfNecessary(type))
+					: typeInformation);
+		}
+
+		if (type == String.class) {
+			return rs.getString(index);
+		}
+
+		if (type == Long.class || type == long.class) {
+			long value = rs.getLong(index);
+			return rs.wasNull() ? null : Long.valueOf(value);
+		}
+
+		if (type == Integer.class || type == int.class) {
+			int value = rs.getInt(index);
+			return rs.wasNull() ? null : Integer.valueOf(value);
+		}
+
+		if (type == Double.class || type == double.class) {
+			double value = rs.getDouble(index);
+			return rs.wasNull() ? null : Double.valueOf(value);
+		}
+
+		if (type == Boolean.class || type == boolean.class) {
+			boolean value = rs.getBoolean(index);
+			return rs.wasNull() ? null : Boolean.valueOf(value);
+		}
+
+		return converter.readValue(rs.getObject(index), typeInformation);
+	}
+
+	/**
+	 * Whether a custom reading converter may produce {@code type} from a JDBC
+	 * value, so that the typed getters must not bypass the
+	 * {@link JdbcConverter}. Unknown converters are assumed to have one.
+	 */
+	boolean hasCustomReadTarget(Class<?> type) {
+		return customReadTargets.computeIfAbsent(ClassUtils.resolvePrimitiveIfNecessary(type), target -> {
+			if (!(converter instanceof BasicRelationalConverter)) {
+				return true;
+			}
+
+			CustomConversions conversions = ((BasicRelationalConverter) converter).getConversions();
+
+			for (Class<?> source : JDBC_VALUE_TYPES) {
+				if (conversions.hasCustomReadTarget(source, target)) {
+					return true;
+				}
+			}
+
+			return false;
+		});
+	}
+
+	/**
+	 * Per entity cache of the instantiator, the property writers and the column
+	 * layouts seen so far.
+	 */
+	class EntityMetadata<T> {
+
+		final Class<T> type;
+
+		final MethodHandle instantiator;
+
+		final Map<String, PropertyWriter> writers;
+
+		final Map<String, PropertyWriter[]> layouts = new ConcurrentHashMap<>();
+
+		EntityMetadata(Class<T> type, MethodHandle instantiator, Map<String, PropertyWriter> writers) {
+			this.type = type;
+			this.instantiator = instantiator;
+			this.writers = writers;
+		}
+
+		PropertyWriter[] getLayout(ResultSetMetaData metaData) throws SQLException {
+			int columnCount = metaData.getColumnCount();
+			String[] labels = new String[columnCount];
+
+			for (int i = 0; i < columnCount; i++) {
+				labels[i] = metaData.getColumnLabel(i + 1).toLowerCase(Locale.ROOT);
+			}
+
+			String key = String.join(",", labels);
+			PropertyWriter[] layout = layouts.get(key);
+
+			if (layout == null) {
+				layout = new PropertyWriter[columnCount];
+
+				for (int i = 0; i < columnCount; i++) {
+					layout[i] = writers.get(labels[i]);
+				}
+
+				if (layouts.size() < MAX_LAYOUTS) {
+					layouts.putIfAbsent(key, layout);
+				}
+			}
+
+			return layout;
+		}
+
+		@SuppressWarnings("unchecked")
+		T newInstance() {
+			try {
+				return (T) (Object) instantiator.invokeExact();
+			} catch (Throwable e) {
+				throw new MappingException("Could not instantiate " + type.getName(), e);
+			}
+		}
+
+	}
+
+	/**
+	 * Writes a single column into a property, reading primitive columns without
+	 * boxing and only going through the {@link JdbcConverter} for types that need
+	 * a conversion.
+	 */
+	class PropertyWriter {
+
+		final RelationalPersistentProperty property;
+
+		final Class<?> type;
+
+		final MethodHandle setter;
+
+		/**
+		 * Setter taking the boxed value, for primitives read through a custom
+		 * converter.
+		 */
+		final MethodHandle objectSetter;
+
+		final boolean converted;
+
+		PropertyWriter(RelationalPersistentProperty property, MethodHandle setter) {
+			this.property = property;
+			this.type = property.getType();
+			this.setter = type.isPrimitive() ? setter.asType(SETTER_TYPE.appendParameterTypes(type))
+					: setter.asType(SETTER_TYPE.appendParameterTypes(Object.class));
+			this.objectSetter = setter.asType(SETTER_TYPE.appendParameterTypes(Object.class));
+			this.converted = type.isPrimitive() && hasCustomReadTarget(type);
+		}
+
+		void write(ResultSet rs, int index, Object instance) throws Throwable {
+			if (converted) {
+				Object value = readValue(rs, index, type, property.getTypeInformation());
+				objectSetter.invokeExact(instance, value != null ? value : getDefaultValue(type));
+			} else if (type == long.class) {
+				setter.invokeExact(instance, rs.getLong(index));
+			} else if (type == int.class) {
+				setter.invokeExact(instance, rs.getInt(index));
+			} else if (type == double.class) {
+				setter.invokeExact(instance, rs.getDouble(index));
+			} else if (type == boolean.class) {
+				setter.invokeExact(instance, rs.getBoolean(index));
+			} else if (type == float.class) {
+				setter.invokeExact(instance, rs.getFloat(index));
+			} else if (type == short.class) {
+				setter.invokeExact(instance, rs.getShort(index));
+			} else if (type == byte.class) {
+				setter.invokeExact(instance, rs.getByte(index));
+			} else if (type == char.class) {
+				String value = rs.getString(index);
+				setter.invokeExact(instance, value == null || value.isEmpty() ? '\u0000' : value.charAt(0));
+			} else {
+				setter.invokeExact(instance, read(rs, index));
+			}
+		}
+
+		@Nullable
+		Object read(ResultSet rs, int index) throws SQLException {
+			return readValue(rs, index, type, property.getTypeInformation());
+		}
+
+	}
+
+}
@@ -0,0 +1,25 @@
+package org.springframework.data.jdbc.repository.query;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.relational.core.query.Criteria;
+import org.springframework.data.relational.repository.query.RelationalParameterAccessor;
+import org.springframework.data.relational.repository.query.RelationalQueryCreator;
+import org.springframework.data.repository.query.parser.PartTree;
+import org.springframework.lang.Nullable;
+
+/**
+ * Derives only the {@link Criteria} of a {@link PartTree}, for statements that
+ * are not selects such as derived {@code deleteBy} methods.
+ */
+class JdbcCriteriaCreator extends RelationalQueryCreator<Criteria> {
+
+	JdbcCriteriaCreator(PartTree tree, RelationalParameterAccessor accessor) {
+		super(tree, accessor);
+	}
+
+	@Override
+	protected Criteria complete(@Nullable Criteria criteria, Sort sort) {
+		return criteria != null ? criteria : Criteria.empty();
+	}
+
+}
@@ -1,6 +1,8 @@
 package org.springframework.data.jdbc.repository.query;
 
 import java.lang.reflect.Field;
+import java.util.Collections;
+import java.util.List;
 
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jdbc.core.DefaultStatementMapper;
@@ -37,12 +39,19 @@ public class JdbcPlusQueryCreator extends RelationalQueryCreator<ParametrizedQue
 	private final RenderContextFactory renderContextFactory;
 	private final RelationalEntityMetadata<?> entityMetadata;
 	private final RelationalParameterAccessor accessor;
+	private final List<String> columns;
 
 	JdbcPlusQueryCreator(RelationalMappingContext context, PartTree tree, JdbcConverter converter, Dialect dialect,
 			RelationalEntityMetadata<?> entityMetadata, RelationalParameterAccessor accessor) {
+		this(context, tree, converter, dialect, entityMetadata, accessor, Collections.emptyList());
+	}
+
+	JdbcPlusQueryCreator(RelationalMappingContext context, PartTree tree, JdbcConverter converter, Dialect dialect,
+			RelationalEntityMetadata<?> entityMetadata, RelationalParameterAccessor accessor, List<String> columns) {
 		super(tree, accessor);
 
 		this.accessor = accessor;
+		this.columns = columns;
 		this.entityMetadata = entityMetadata;
 		this.queryMapper = new UpdateMapper(dialect, converter, context);
 		this.renderContextFactory = new RenderContextFactory(dialect);
@@ -55,6 +64,10 @@ public class JdbcPlusQueryCreator extends RelationalQueryCreator<ParametrizedQue
 	protected ParametrizedQuery complete(@Nullable Criteria criteria, Sort sort) {
 		RelationalPersistentEntity<?> entity = entityMetadata.getTableEntity();
 		Query query = Query.query(criteria).with(accessor.getPageable()).sort(sort);
+
+		if (!columns.isEmpty()) {
+			query = query.columns(columns);
+		}
 		StatementMapper statementMapper = this.statementMapper.forType(entity.getType());
 
 		return statementMapper.getMappedObject(query);
@@ -3,27 +3,45 @@ package org.springframework.data.jdbc.repository.query;
 import java.sql.ResultSet;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
 
-import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.dao.support.DataAccessUtils;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.jdbc.core.DefaultStatementMapper;
+import org.springframework.data.jdbc.core.JdbcAsyncExecutor;
+import org.springframework.data.jdbc.core.JdbcDeleteExecutor;
+import org.springframework.data.jdbc.core.StatementMapper;
+import org.springframework.data.jdbc.core.convert.EntityRowMapperFactory;
 import org.springframework.data.jdbc.core.convert.JdbcConverter;
 import org.springframework.data.relational.core.dialect.Dialect;
+import org.springframework.data.relational.core.dialect.RenderContextFactory;
 import org.springframework.data.relational.core.mapping.RelationalMappingContext;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.data.relational.core.query.Criteria;
 import org.springframework.data.relational.repository.query.RelationalEntityMetadata;
 import org.springframework.data.relational.repository.query.RelationalParameterAccessor;
 import org.springframework.data.relational.repository.query.RelationalParametersParameterAccessor;
 import org.springframework.data.repository.query.Parameters;
+import org.springframework.data.repository.query.ReturnedType;
 import org.springframework.data.repository.query.parser.PartTree;
 import org.springframework.jdbc.core.ResultSetExtractor;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.core.RowMapperResultSetExtractor;
+import org.springframework.jdbc.core.SingleColumnRowMapper;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
 import org.springframework.lang.Nullable;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.util.Assert;
 
 public class PartTreeJdbcQuery extends AbstractJdbcQuery {
 
+	// PartTree only recognizes First/Top after the find prefixes
+	private static final Pattern LIMITING_DELETE = Pattern
+			.compile("^(delete|remove)(\\p{Lu}.*?)??(First|Top)(\\d*)?(\\p{Lu}.*?)??By");
+
 	private final RelationalMappingContext context;
 	private final Parameters<?, ?> parameters;
 	private final Dialect dialect;
@@ -32,6 +50,10 @@ public class PartTreeJdbcQuery extends AbstractJdbcQuery {
 	private final JdbcQueryExecution<?> execution;
 	private final JdbcQueryExecution<Long> totalExecution;
 	private final NamedParameterJdbcOperations operations;
+	private final List<String> projectedPaths;
+	private final JdbcDeleteExecutor deleteExecutor;
+	private @Nullable TransactionTemplate transactionTemplate;
+	private Consumer<Class<?>> afterDelete = entityClass -> {};
 
 	/**
 	 * Creates a new {@link PartTreeJdbcQuery}.
@@ -43,6 +65,7 @@ public class PartTreeJdbcQuery extends AbstractJdbcQuery {
 	 * @param operations  must not be {@literal null}.
 	 * @param rowMapper   must not be {@literal null}.
 	 */
+	@SuppressWarnings("unchecked")
 	public PartTreeJdbcQuery(RelationalMappingContext context, JdbcQueryMethod queryMethod, Dialect dialect,
 			JdbcConverter converter, NamedParameterJdbcOperations operations, RowMapper<Object> rowMapper) {
 
@@ -64,6 +87,40 @@ public class PartTreeJdbcQuery extends AbstractJdbcQuery {
 
 		ResultSetExtractor<Boolean> extractor = tree.isExistsProjection() ? (ResultSet::next) : null;
 
+		if (tree.isDelete()) {
+			Class<?> type = queryMethod.getReturnedObjectType();
+
+			if (!(type == void.class || type == Void.class || type == boolean.class || type == Boolean.class
+					|| type == int.class || type == Integer.class || type == long.class || type == Long.class)) {
+				throw new IllegalArgumentException(
+						"Derived delete query must return void, boolean, int or long: " + queryMethod.getName());
+			}
+
+			// a single set based DELETE cannot honour First/Top
+			if (tree.isLimiting() || LIMITING_DELETE.matcher(queryMethod.getName()).find()) {
+				throw new IllegalArgumentException(
+						"Derived delete query does not support limiting: " + queryMethod.getName());
+			}
+		}
+
+		UpdateMapper updateMapper = new UpdateMapper(dialect, converter, context);
+		StatementMapper statementMapper = new DefaultStatementMapper(dialect,
+				new RenderContextFactory(dialect).createRenderContext(), updateMapper, context);
+		this.deleteExecutor = new JdbcDeleteExecutor(context, statementMapper, operations);
+
+		ReturnedType returnedType = queryMethod.getResultProcessor().getReturnedType();
+		Class<?> domainType = returnedType.getDomainType();
+		Class<?> dtoType = returnedType.getReturnedType();
+		EntityRowMapperFactory entityRowMapperFactory = EntityRowMapperFactory.getShared(converter, context);
+
+		if (!tree.isCountProjection() && !tree.isExistsProjection()
+				&& entityRowMapperFactory.isDtoProjection(dtoType, domainType)) {
+			this.projectedPaths = entityRowMapperFactory.getDtoProjection(dtoType, domainType).getPaths();
+			rowMapper = (RowMapper<Object>) entityRowMapperFactory.getDtoRowMapper(dtoType, domainType);
+		} else {
+			this.projectedPaths = Collections.emptyList();
+		}
+
 		if (queryMethod.isPageQuery() || queryMethod.isSliceQuery()) {
 			this.execution = getCollectionQueryExecution(queryMethod, extractor, rowMapper);
 			this.totalExecution = getTotalQueryExecution();
@@ -91,6 +148,10 @@ public class PartTreeJdbcQuery extends AbstractJdbcQuery {
 
 		JdbcQueryMethod queryMethod = getQueryMethod();
 
+		if (tree.isDelete()) {
+			return executeDelete(accessor);
+		}
+
 		if (queryMethod.isPageQuery() || queryMethod.isSliceQuery()) {
 			ParametrizedQuery totalQuery = createTotalQuery(accessor);
 
@@ -118,6 +179,65 @@ public class PartTreeJdbcQuery extends AbstractJdbcQuery {
 		}
 	}
 
+	/**
+	 * Transaction manager of the derived {@code deleteBy} methods, by default a
+	 * {@link org.springframework.jdbc.datasource.DataSourceTransactionManager} on
+	 * the data source of the operations.
+	 *
+	 * @param transactionManager
+	 */
+	public void setTransactionManager(PlatformTransactionManager transactionManager) {
+		Assert.notNull(transactionManager, "PlatformTransactionManager must not be null");
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+	}
+
+	/**
+	 * Called with the entity type in the transaction of each derived
+	 * {@code deleteBy}, after the rows are gone.
+	 *
+	 * @param afterDelete
+	 */
+	public void setAfterDelete(Consumer<Class<?>> afterDelete) {
+		Assert.notNull(afterDelete, "After delete callback must not be null");
+		this.afterDelete = afterDelete;
+	}
+
+	/**
+	 * Run a derived {@code deleteBy}/{@code removeBy} method as a single
+	 * {@code DELETE}, removing {@code ManyToMany} join rows in the same
+	 * transaction, instead of loading and deleting each entity.
+	 */
+	protected Object executeDelete(RelationalParametersParameterAccessor accessor) {
+		Criteria criteria = new JdbcCriteriaCreator(tree, accessor).createQuery();
+		RelationalPersistentEntity<?> entity = getQueryMethod().getEntityInformation().getTableEntity();
+
+		if (transactionTemplate == null) {
+			transactionTemplate = JdbcDeleteExecutor.createTransactionTemplate(operations);
+		}
+
+		Integer count = transactionTemplate.execute(status -> {
+			int deleted = deleteExecutor.delete(criteria, entity.getType(), entity.getTableName());
+			afterDelete.accept(entity.getType());
+			return deleted;
+		});
+
+		Class<?> type = getQueryMethod().getReturnedObjectType();
+
+		if (type == void.class || type == Void.class) {
+			return null;
+		}
+
+		if (type == boolean.class || type == Boolean.class) {
+			return count > 0;
+		}
+
+		if (type == int.class || type == Integer.class) {
+			return count;
+		}
+
+		return count.longValue();
+	}
+
 	protected ParametrizedQuery createQuery(RelationalParametersParameterAccessor accessor) {
 
 		RelationalEntityMetadata<?> entityMetadata = getQueryMethod().getEntityInformation();
@@ -130,7 +250,7 @@ public class PartTreeJdbcQuery extends AbstractJdbcQuery {
 
 		RelationalEntityMetadata<?> entityMetadata = getQueryMethod().getEntityInformation();
 		JdbcPlusQueryCreator queryCreator = new JdbcPlusQueryCreator(context, tree, converter, dialect, entityMetadata,
-				accessor);
+				accessor, projectedPaths);
 
 		return queryCreator.createQuery(getDynamicSort(accessor));
 	}
@@ -157,18 +277,13 @@ public class PartTreeJdbcQuery extends AbstractJdbcQuery {
 	}
 
 	private <T> JdbcQueryExecution<T> getQueryExecution(ResultSetExtractor<T> resultSetExtractor) {
-		return (query, parameters) -> operations.query(query, parameters, resultSetExtractor);
+		return (query, parameters) -> JdbcAsyncExecutor.query(operations, query, parameters, resultSetExtractor);
 	}
 
 	private JdbcQueryExecution<Long> totalObjectQuery() {
 
-		return (query, parameters) -> {
-			try {
-				return operations.queryForObject(query, parameters, Long.class);
-			} catch (EmptyResultDataAccessException e) {
-				return null;
-			}
-		};
+		return (query, parameters) -> DataAccessUtils.singleResult(JdbcAsyncExecutor.query(operations, query,
+				parameters, new RowMapperResultSetExtractor<>(SingleColumnRowMapper.newInstance(Long.class), 1)));
 	}
 
 }
@@ -35,16 +35,22 @@ import org.springframework.data.relational.core.query.CriteriaDefinition;
 import org.springframework.data.relational.core.query.CriteriaDefinition.Combinator;
 import org.springframework.data.relational.core.query.CriteriaDefinition.Comparator;
 import org.springframework.data.relational.core.query.ExistsCriteria;
+import org.springframework.data.relational.core.query.Increment;
+import org.springframework.data.relational.core.query.Update;
 import org.springframework.data.relational.core.query.ValueFunction;
+import org.springframework.data.relational.core.sql.AssignValue;
+import org.springframework.data.relational.core.sql.Assignment;
 import org.springframework.data.relational.core.sql.Column;
 import org.springframework.data.relational.core.sql.Condition;
 import org.springframework.data.relational.core.sql.Conditions;
 import org.springframework.data.relational.core.sql.Expression;
 import org.springframework.data.relational.core.sql.Functions;
+import org.springframework.data.relational.core.sql.IdentifierProcessing;
 import org.springframework.data.relational.core.sql.OrderByField;
 import org.springframework.data.relational.core.sql.ReferenceColumn;
 import org.springframework.data.relational.core.sql.SQL;
 import org.springframework.data.relational.core.sql.SelectBuilder;
+import org.springframework.data.relational.core.sql.SingleLiteral;
 import org.springframework.data.relational.core.sql.SqlIdentifier;
 import org.springframework.data.relational.core.sql.Table;
 import org.springframework.data.util.ClassTypeInformation;
@@ -114,6 +120,52 @@ public class UpdateMapper extends QueryMapper {
 		return new BoundCondition(sqlParameterSource, mapped);
 	}
 
+	/**
+	 * Map the assignments of {@code update} to {@code SET} clauses, binding values
+	 * with the same {@code p0, p1...} markers as the criteria. An
+	 * {@link Increment} value renders as {@code column = column + :pN}.
+	 *
+	 * @param update
+	 * @param table
+	 * @param entity
+	 * @param sqlParameterSource
+	 * @param atomicInteger
+	 * @return
+	 */
+	public List<Assignment> getMappedObject(Update update, Table table, RelationalPersistentEntity<?> entity,
+			MapSqlParameterSource sqlParameterSource, AtomicInteger atomicInteger) {
+
+		Assert.notNull(update, "Update must not be null!");
+		Assert.isTrue(!update.getAssignments().isEmpty(), "Update must not be empty!");
+
+		List<Assignment> assignments = new ArrayList<Assignment>();
+
+		update.getAssignments().forEach((column, value) -> {
+			RelationalPersistentProperty property = entity
+					.getPersistentProperty(column.getReference(IdentifierProcessing.NONE));
+
+			if (property == null) {
+				throw new SelectBuildException("No property " + column + " found on " + entity.getName());
+			}
+
+			Column mapped = Column.create(property.getColumnName(), table);
+
+			if (value instanceof Increment) {
+				String n = "p" + atomicInteger.getAndIncrement();
+				sqlParameterSource.addValue(n, ((Increment) value).getDelta());
+
+				String sql = property.getColumnName().toSql(dialect.getIdentifierProcessing()) + " + :" + n;
+				assignments.add(AssignValue.create(mapped, new SingleLiteral(sql)));
+			} else {
+				Object mappedValue = convertValue(value, property.getTypeInformation());
+				assignments.add(AssignValue.create(mapped,
+						bind(mappedValue, atomicInteger, sqlParameterSource, property.getType())));
+			}
+		});
+
+		return assignments;
+	}
+
 	public List<OrderByField> getMappedSort(SelectBuilder.SelectFromAndJoin selectBuilder, Table table, Sort sort,
 			@Nullable RelationalPersistentEntity<?> entity, Pair<Map<String, Table>, Map<String, Class<?>>> pair) {
 
@@ -362,6 +414,36 @@ public class UpdateMapper extends QueryMapper {
 		}
 	}
 
+	/**
+	 * Map a dotted property path like {@code department.name} to the aliased
+	 * column of the joined table. Only {@link ManyToOne} relations are allowed so
+	 * that the projection keeps one row per entity.
+	 *
+	 * @param path
+	 * @param entity
+	 * @return
+	 */
+	public Column getMappedPathColumn(String path, RelationalPersistentEntity<?> entity) {
+		String[] names = path.split("\\.");
+		RelationalPersistentEntity<?> current = entity;
+
+		for (int i = 0; i < names.length - 1; i++) {
+			String name = names[i];
+			java.lang.reflect.Field field = ReflectionUtils.findField(current.getType(), name);
+
+			if (field == null || field.getAnnotation(ManyToOne.class) == null) {
+				throw new SelectBuildException("Only ManyToOne can be projected for " + name + " in " + path);
+			}
+
+			current = mappingContext.getRequiredPersistentEntity(field.getType());
+		}
+
+		RelationalPersistentProperty property = current.getRequiredPersistentProperty(names[names.length - 1]);
+		String alias = mappingContext.getNamingStrategy().getColumnAlias(path);
+
+		return Column.create(property.getColumnName(), Table.create(current.getTableName())).as(alias);
+	}
+
 	private Condition resolve(CriteriaDefinition criterion, Table table, @Nullable RelationalPersistentEntity<?> entity,
 			MapSqlParameterSource sqlParameterSource, AtomicInteger atomicInteger,
 			Pair<Map<String, Table>, Map<String, Class<?>>> pair) {
@@ -0,0 +1,53 @@
+package org.springframework.data.jdbc.repository.support;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.data.jdbc.core.JdbcAsyncExecutor;
+
+/**
+ * Runs the repository methods declared to return a {@link CompletableFuture}
+ * or {@link Future} on a {@link JdbcAsyncExecutor}. The method is invoked on
+ * the executor thread, where the query result is wrapped into a completed
+ * future, and the returned future completes with its value.
+ */
+class AsyncRepositoryMethodInterceptor implements MethodInterceptor {
+
+	private final Supplier<JdbcAsyncExecutor> asyncExecutor;
+
+	AsyncRepositoryMethodInterceptor(Supplier<JdbcAsyncExecutor> asyncExecutor) {
+		this.asyncExecutor = asyncExecutor;
+	}
+
+	static boolean isAsync(Method method) {
+		return method.getReturnType() == CompletableFuture.class || method.getReturnType() == Future.class;
+	}
+
+	@Override
+	public Object invoke(MethodInvocation invocation) throws Throwable {
+		if (!isAsync(invocation.getMethod())) {
+			return invocation.proceed();
+		}
+
+		return asyncExecutor.get().submit(() -> {
+			try {
+				Object result = invocation.proceed();
+
+				return result instanceof Future ? ((Future<?>) result).get() : result;
+			} catch (ExecutionException e) {
+				throw new CompletionException(e.getCause());
+			} catch (RuntimeException | Error e) {
+				throw e;
+			} catch (Throwable e) {
+				throw new CompletionException(e);
+			}
+		});
+	}
+
+}
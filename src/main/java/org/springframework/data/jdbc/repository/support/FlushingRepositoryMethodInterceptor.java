@@ -0,0 +1,33 @@
+package org.springframework.data.jdbc.repository.support;
+
+import java.util.List;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.data.jdbc.core.JdbcAggregatePlusTemplate;
+
+/**
+ * Flushes the unit of work of write-behind {@link JdbcAggregatePlusTemplate}s
+ * before a repository method runs, so that its queries and deletes see and
+ * follow the writes the templates queued in the same transaction. The
+ * repository runs on a template of its own, which does not know the queue.
+ * Other transaction synchronizations are left alone.
+ */
+class FlushingRepositoryMethodInterceptor implements MethodInterceptor {
+
+	private final List<JdbcAggregatePlusTemplate> templates;
+
+	FlushingRepositoryMethodInterceptor(List<JdbcAggregatePlusTemplate> templates) {
+		this.templates = templates;
+	}
+
+	@Override
+	public Object invoke(MethodInvocation invocation) throws Throwable {
+		for (JdbcAggregatePlusTemplate template : templates) {
+			template.flush();
+		}
+
+		return invocation.proceed();
+	}
+
+}
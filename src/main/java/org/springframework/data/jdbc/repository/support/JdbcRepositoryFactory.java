@@ -0,0 +1,274 @@
+package org.springframework.data.jdbc.repository.support;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.jdbc.core.JdbcAggregatePlusTemplate;
+import org.springframework.data.jdbc.core.JdbcAggregateTemplate;
+import org.springframework.data.jdbc.core.JdbcAsyncExecutor;
+import org.springframework.data.jdbc.core.convert.DataAccessStrategy;
+import org.springframework.data.jdbc.core.convert.EntityRowMapperFactory;
+import org.springframework.data.jdbc.core.convert.JdbcConverter;
+import org.springframework.data.jdbc.repository.QueryMappingConfiguration;
+import org.springframework.data.jdbc.repository.query.JdbcQueryMethod;
+import org.springframework.data.jdbc.repository.query.PartTreeJdbcQuery;
+import org.springframework.data.mapping.callback.EntityCallbacks;
+import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.relational.core.dialect.Dialect;
+import org.springframework.data.relational.core.mapping.RelationalMappingContext;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.data.relational.repository.query.RelationalEntityMetadata;
+import org.springframework.data.relational.repository.query.SimpleRelationalEntityMetadata;
+import org.springframework.data.repository.core.EntityInformation;
+import org.springframework.data.repository.core.NamedQueries;
+import org.springframework.data.repository.core.RepositoryInformation;
+import org.springframework.data.repository.core.RepositoryMetadata;
+import org.springframework.data.repository.core.support.PersistentEntityInformation;
+import org.springframework.data.repository.core.support.RepositoryFactorySupport;
+import org.springframework.data.repository.query.QueryLookupStrategy;
+import org.springframework.data.repository.query.QueryMethodEvaluationContextProvider;
+import org.springframework.data.repository.query.RepositoryQuery;
+import org.springframework.data.repository.query.ReturnedType;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
+import org.springframework.lang.Nullable;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.util.Assert;
+
+/**
+ * Creates repository implementation. Unlike the original the repository
+ * template gets the {@link NamedParameterJdbcOperations}, which the
+ * {@code ManyToMany} cleanup and {@code deleteAllById} run on, and derived
+ * queries returning a class based DTO read their rows through the DTO row
+ * mapper, without registering the DTO as an entity.
+ */
+public class JdbcRepositoryFactory extends RepositoryFactorySupport {
+
+	private final RelationalMappingContext context;
+	private final JdbcConverter converter;
+	private final ApplicationEventPublisher publisher;
+	private final DataAccessStrategy accessStrategy;
+	private final NamedParameterJdbcOperations operations;
+	private final Dialect dialect;
+	@Nullable
+	private BeanFactory beanFactory;
+
+	private QueryMappingConfiguration queryMappingConfiguration = QueryMappingConfiguration.EMPTY;
+	private EntityCallbacks entityCallbacks;
+	@Nullable
+	private volatile JdbcAsyncExecutor asyncExecutor;
+
+	public JdbcRepositoryFactory(DataAccessStrategy dataAccessStrategy, RelationalMappingContext context,
+			JdbcConverter converter, Dialect dialect, ApplicationEventPublisher publisher,
+			NamedParameterJdbcOperations operations) {
+
+		Assert.notNull(dataAccessStrategy, "DataAccessStrategy must not be null!");
+		Assert.notNull(context, "RelationalMappingContext must not be null!");
+		Assert.notNull(converter, "RelationalConverter must not be null!");
+		Assert.notNull(dialect, "Dialect must not be null!");
+		Assert.notNull(publisher, "ApplicationEventPublisher must not be null!");
+
+		this.publisher = publisher;
+		this.context = context;
+		this.converter = converter;
+		this.dialect = dialect;
+		this.accessStrategy = dataAccessStrategy;
+		this.operations = operations;
+
+		addRepositoryProxyPostProcessor((factory, repositoryInformation) -> {
+			List<JdbcAggregatePlusTemplate> writeBehindTemplates = getWriteBehindTemplates();
+
+			// before the async hop, the transaction is bound to the calling thread
+			if (!writeBehindTemplates.isEmpty()) {
+				factory.addAdvice(new FlushingRepositoryMethodInterceptor(writeBehindTemplates));
+			}
+
+			if (Arrays.stream(repositoryInformation.getRepositoryInterface().getMethods())
+					.anyMatch(AsyncRepositoryMethodInterceptor::isAsync)) {
+				factory.addAdvice(new AsyncRepositoryMethodInterceptor(this::getAsyncExecutor));
+			}
+		});
+	}
+
+	public void setQueryMappingConfiguration(QueryMappingConfiguration queryMappingConfiguration) {
+
+		Assert.notNull(queryMappingConfiguration, "QueryMappingConfiguration must not be null!");
+
+		this.queryMappingConfiguration = queryMappingConfiguration;
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public <T, ID> EntityInformation<T, ID> getEntityInformation(Class<T> aClass) {
+
+		RelationalPersistentEntity<?> entity = context.getRequiredPersistentEntity(aClass);
+
+		return (EntityInformation<T, ID>) new PersistentEntityInformation<>(entity);
+	}
+
+	@Override
+	protected Object getTargetRepository(RepositoryInformation repositoryInformation) {
+
+		JdbcAggregateTemplate template = new JdbcAggregateTemplate(publisher, context, converter, accessStrategy,
+				dialect, operations);
+
+		if (entityCallbacks != null) {
+			template.setEntityCallbacks(entityCallbacks);
+		}
+
+		RelationalPersistentEntity<?> persistentEntity = context
+				.getRequiredPersistentEntity(repositoryInformation.getDomainType());
+
+		return getTargetRepositoryViaReflection(repositoryInformation.getRepositoryBaseClass(), template,
+				persistentEntity);
+	}
+
+	@Override
+	protected Class<?> getRepositoryBaseClass(RepositoryMetadata repositoryMetadata) {
+		return SimpleJdbcRepository.class;
+	}
+
+	@Override
+	protected Optional<QueryLookupStrategy> getQueryLookupStrategy(@Nullable QueryLookupStrategy.Key key,
+			QueryMethodEvaluationContextProvider evaluationContextProvider) {
+
+		QueryLookupStrategy delegate = new JdbcQueryLookupStrategy(publisher, entityCallbacks, context, converter,
+				dialect, queryMappingConfiguration, operations, beanFactory);
+		EntityRowMapperFactory entityRowMapperFactory = EntityRowMapperFactory.getShared(converter, context);
+
+		return Optional.of((method, metadata, projectionFactory, namedQueries) -> {
+
+			JdbcQueryMethod queryMethod = new DomainJdbcQueryMethod(method, metadata, projectionFactory, namedQueries);
+			ReturnedType returnedType = queryMethod.getResultProcessor().getReturnedType();
+
+			// the default row mapper and entity information would register the DTO as an entity
+			if (!queryMethod.hasAnnotatedQuery() && !namedQueries.hasQuery(queryMethod.getNamedQueryName())
+					&& entityRowMapperFactory.isDtoProjection(returnedType.getReturnedType(),
+							returnedType.getDomainType())) {
+
+				return configure(new PartTreeJdbcQuery(context, queryMethod, dialect, converter, operations,
+						getDtoRowMapper(entityRowMapperFactory, returnedType)));
+			}
+
+			return configure(delegate.resolveQuery(method, metadata, projectionFactory, namedQueries));
+		});
+	}
+
+	/**
+	 * Runs derived deletes on the application's transaction manager and lets
+	 * the templates drop their dirty tracking snapshots of the deleted type.
+	 */
+	private RepositoryQuery configure(RepositoryQuery query) {
+		if (query instanceof PartTreeJdbcQuery && beanFactory != null) {
+			PartTreeJdbcQuery partTreeQuery = (PartTreeJdbcQuery) query;
+			PlatformTransactionManager transactionManager = beanFactory
+					.getBeanProvider(PlatformTransactionManager.class).getIfUnique();
+
+			if (transactionManager != null) {
+				partTreeQuery.setTransactionManager(transactionManager);
+			}
+
+			List<JdbcAggregatePlusTemplate> templates = beanFactory.getBeanProvider(JdbcAggregatePlusTemplate.class)
+					.stream().collect(Collectors.toList());
+
+			if (!templates.isEmpty()) {
+				partTreeQuery.setAfterDelete(entityClass -> templates.forEach(t -> t.forgetSnapshots(entityClass)));
+			}
+		}
+
+		return query;
+	}
+
+	/**
+	 * Templates that queue writes in a unit of work, which the repository has to
+	 * flush before its own statements.
+	 */
+	private List<JdbcAggregatePlusTemplate> getWriteBehindTemplates() {
+		if (beanFactory == null) {
+			return Collections.emptyList();
+		}
+
+		return beanFactory.getBeanProvider(JdbcAggregatePlusTemplate.class).stream()
+				.filter(JdbcAggregatePlusTemplate::isWriteBehindEnabled).collect(Collectors.toList());
+	}
+
+	@SuppressWarnings("unchecked")
+	private static RowMapper<Object> getDtoRowMapper(EntityRowMapperFactory entityRowMapperFactory,
+			ReturnedType returnedType) {
+		return (RowMapper<Object>) entityRowMapperFactory.getDtoRowMapper(returnedType.getReturnedType(),
+				returnedType.getDomainType());
+	}
+
+	/**
+	 * Describes the table of the domain type whatever the method returns.
+	 */
+	private class DomainJdbcQueryMethod extends JdbcQueryMethod {
+
+		@Nullable
+		private RelationalEntityMetadata<?> entityMetadata;
+
+		DomainJdbcQueryMethod(Method method, RepositoryMetadata metadata, ProjectionFactory factory,
+				NamedQueries namedQueries) {
+			super(method, metadata, factory, namedQueries, context);
+		}
+
+		@Override
+		@SuppressWarnings({ "unchecked", "rawtypes" })
+		public RelationalEntityMetadata<?> getEntityInformation() {
+			if (entityMetadata == null) {
+				RelationalPersistentEntity<?> entity = context.getRequiredPersistentEntity(getDomainClass());
+				entityMetadata = new SimpleRelationalEntityMetadata(entity.getType(), entity);
+			}
+
+			return entityMetadata;
+		}
+
+	}
+
+	public void setEntityCallbacks(EntityCallbacks entityCallbacks) {
+		this.entityCallbacks = entityCallbacks;
+	}
+
+	public void setBeanFactory(@Nullable BeanFactory beanFactory) {
+		this.beanFactory = beanFactory;
+	}
+
+	/**
+	 * Executor of the repository methods returning a
+	 * {@link java.util.concurrent.CompletableFuture}, by default a virtual thread
+	 * per call where available.
+	 *
+	 * @param asyncExecutor
+	 */
+	public void setAsyncExecutor(JdbcAsyncExecutor asyncExecutor) {
+
+		Assert.notNull(asyncExecutor, "JdbcAsyncExecutor must not be null!");
+
+		this.asyncExecutor = asyncExecutor;
+	}
+
+	private JdbcAsyncExecutor getAsyncExecutor() {
+
+		JdbcAsyncExecutor executor = asyncExecutor;
+
+		if (executor == null) {
+			synchronized (this) {
+				executor = asyncExecutor;
+
+				if (executor == null) {
+					executor = new JdbcAsyncExecutor();
+					asyncExecutor = executor;
+				}
+			}
+		}
+
+		return executor;
+	}
+
+}
@@ -0,0 +1,130 @@
+package org.springframework.data.jdbc.repository.support;
+
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jdbc.core.JdbcAggregateOperations;
+import org.springframework.data.jdbc.core.JdbcAggregateTemplate;
+import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.repository.PagingAndSortingRepository;
+import org.springframework.data.util.Streamable;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.Assert;
+
+/**
+ * Default repository implementation, adds {@link #deleteAllById(Iterable)}
+ * which repositories pick up by declaring the same method.
+ *
+ * @param <T>
+ * @param <ID>
+ */
+@Transactional(readOnly = true)
+public class SimpleJdbcRepository<T, ID> implements PagingAndSortingRepository<T, ID> {
+
+	private final JdbcAggregateOperations entityOperations;
+	private final PersistentEntity<T, ?> entity;
+
+	public SimpleJdbcRepository(JdbcAggregateOperations entityOperations, PersistentEntity<T, ?> entity) {
+
+		Assert.notNull(entityOperations, "EntityOperations must not be null.");
+		Assert.notNull(entity, "Entity must not be null.");
+
+		this.entityOperations = entityOperations;
+		this.entity = entity;
+	}
+
+	@Transactional
+	@Override
+	public <S extends T> S save(S instance) {
+		return entityOperations.save(instance);
+	}
+
+	@Transactional
+	@Override
+	public <S extends T> Iterable<S> saveAll(Iterable<S> entities) {
+
+		return Streamable.of(entities).stream() //
+				.map(this::save) //
+				.collect(Collectors.toList());
+	}
+
+	@Override
+	public Optional<T> findById(ID id) {
+		return Optional.ofNullable(entityOperations.findById(id, entity.getType()));
+	}
+
+	@Override
+	public boolean existsById(ID id) {
+		return entityOperations.existsById(id, entity.getType());
+	}
+
+	@Override
+	public Iterable<T> findAll() {
+		return entityOperations.findAll(entity.getType());
+	}
+
+	@Override
+	public Iterable<T> findAllById(Iterable<ID> ids) {
+		return entityOperations.findAllById(ids, entity.getType());
+	}
+
+	@Override
+	public long count() {
+		return entityOperations.count(entity.getType());
+	}
+
+	@Transactional
+	@Override
+	public void deleteById(ID id) {
+		entityOperations.deleteById(id, entity.getType());
+	}
+
+	/**
+	 * Delete by ids with chunked {@code IN} statements, see
+	 * {@link JdbcAggregateTemplate#deleteAllById(Iterable, Class)}.
+	 *
+	 * @param ids
+	 */
+	@Transactional
+	public void deleteAllById(Iterable<? extends ID> ids) {
+
+		if (entityOperations instanceof JdbcAggregateTemplate) {
+			((JdbcAggregateTemplate) entityOperations).deleteAllById(ids, entity.getType());
+		} else {
+			ids.forEach(this::deleteById);
+		}
+	}
+
+	@Transactional
+	@Override
+	public void delete(T instance) {
+		entityOperations.delete(instance, entity.getType());
+	}
+
+	@Transactional
+	@Override
+	@SuppressWarnings("unchecked")
+	public void deleteAll(Iterable<? extends T> entities) {
+		entities.forEach(it -> entityOperations.delete(it, (Class<T>) it.getClass()));
+	}
+
+	@Transactional
+	@Override
+	public void deleteAll() {
+		entityOperations.deleteAll(entity.getType());
+	}
+
+	@Override
+	public Iterable<T> findAll(Sort sort) {
+		return entityOperations.findAll(entity.getType(), sort);
+	}
+
+	@Override
+	public Page<T> findAll(Pageable pageable) {
+		return entityOperations.findAll(entity.getType(), pageable);
+	}
+
+}
@@ -0,0 +1,20 @@
+package org.springframework.data.relational.core.mapping;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 只追加的实体，如审计日志、事件记录，可通过append异步批量插入，不阻塞调用方；主键宜用IdGenerator以便整批插入
+ *
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.TYPE })
+@Documented
+@Inherited
+public @interface AppendOnly {
+
+}
@@ -0,0 +1,64 @@
+package org.springframework.data.relational.core.mapping;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 主键由客户端按号段分配，号段取自序列或号段表，插入时无需回取自增主键，可整批执行
+ *
+ */
+@Inherited
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.FIELD })
+public @interface IdGenerator {
+
+	/**
+	 * 序列名，与table二选一
+	 * 
+	 * @return
+	 */
+	String sequence() default "";
+
+	/**
+	 * 号段表，包含name和next_val两列
+	 * 
+	 * @return
+	 */
+	String table() default "";
+
+	/**
+	 * 号段表中的行名，默认为实体的表名
+	 * 
+	 * @return
+	 */
+	String name() default "";
+
+	/**
+	 * 每次预留的主键个数，POOLED时序列的步长须与之相同
+	 * 
+	 * @return
+	 */
+	int allocationSize() default 50;
+
+	Optimizer optimizer() default Optimizer.POOLED;
+
+	enum Optimizer {
+
+		/**
+		 * 取到的值为号段起点，号段为[value, value + allocationSize)
+		 */
+		POOLED,
+
+		/**
+		 * 取到的值为高位，号段为[value * allocationSize, (value + 1) * allocationSize)
+		 */
+		HILO
+
+	}
+
+}
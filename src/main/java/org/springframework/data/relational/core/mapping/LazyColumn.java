@@ -0,0 +1,20 @@
+package org.springframework.data.relational.core.mapping;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 大字段延迟加载，模板的默认查询不抓取该列（派生查询仍抓取），需通过fetchLazyColumns按需批量加载
+ *
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.FIELD })
+@Documented
+@Inherited
+public @interface LazyColumn {
+
+}
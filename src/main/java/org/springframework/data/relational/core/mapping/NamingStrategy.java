@@ -60,6 +60,17 @@ public interface NamingStrategy {
 		return ParsingUtils.reconcatenateCamelCase(property, "_");
 	}
 
+	/**
+	 * Column alias for a dotted property path like {@code department.name} used
+	 * in select lists of joined tables.
+	 */
+	default String getColumnAlias(String path) {
+
+		Assert.hasText(path, "Path must not be blank.");
+
+		return getColumnName(path.replace('.', '_'));
+	}
+
 	/**
 	 * @param type
 	 * @return
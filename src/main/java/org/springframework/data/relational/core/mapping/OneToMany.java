@@ -24,4 +24,11 @@ public @interface OneToMany {
 
 	String mappedBy() default "";
 
+	/**
+	 * 保存时级联保存子实体：按id比对，批量插入/更新，并删除不在集合中的子记录；集合为null时不处理
+	 * 
+	 * @return
+	 */
+	boolean cascade() default false;
+
 }
@@ -0,0 +1,25 @@
+package org.springframework.data.relational.core.mapping;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * DTO构造参数对应的实体属性路径，默认使用参数名<br />
+ * 支持通过{@link ManyToOne}关联的属性，例如department.name，查询时会自动关联表
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.PARAMETER })
+public @interface ProjectionPath {
+
+	/**
+	 * 实体属性路径
+	 * 
+	 * @return
+	 */
+	String value();
+
+}
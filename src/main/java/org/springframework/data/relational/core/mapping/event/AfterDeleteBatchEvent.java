@@ -0,0 +1,39 @@
+package org.springframework.data.relational.core.mapping.event;
+
+import java.util.List;
+
+import org.springframework.context.ApplicationEvent;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.ResolvableTypeProvider;
+
+/**
+ * Published once per {@code deleteAllById} call instead of one
+ * {@link AfterDeleteEvent} per id.
+ *
+ * @param <E> entity type
+ */
+public class AfterDeleteBatchEvent<E> extends ApplicationEvent implements ResolvableTypeProvider {
+
+	private static final long serialVersionUID = 1L;
+
+	private final Class<E> type;
+
+	public AfterDeleteBatchEvent(List<?> ids, Class<E> type) {
+		super(ids);
+		this.type = type;
+	}
+
+	public List<?> getIds() {
+		return (List<?>) getSource();
+	}
+
+	public Class<E> getType() {
+		return type;
+	}
+
+	@Override
+	public ResolvableType getResolvableType() {
+		return ResolvableType.forClassWithGenerics(getClass(), ResolvableType.forClass(type));
+	}
+
+}
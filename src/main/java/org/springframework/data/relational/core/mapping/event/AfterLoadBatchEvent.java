@@ -0,0 +1,40 @@
+package org.springframework.data.relational.core.mapping.event;
+
+import java.util.List;
+
+import org.springframework.context.ApplicationEvent;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.ResolvableTypeProvider;
+
+/**
+ * Published once per result instead of one {@link AfterLoadEvent} per entity
+ * when batch load events are enabled on the template.
+ *
+ * @param <E> entity type
+ */
+public class AfterLoadBatchEvent<E> extends ApplicationEvent implements ResolvableTypeProvider {
+
+	private static final long serialVersionUID = 1L;
+
+	private final Class<E> type;
+
+	public AfterLoadBatchEvent(List<E> entities, Class<E> type) {
+		super(entities);
+		this.type = type;
+	}
+
+	@SuppressWarnings("unchecked")
+	public List<E> getEntities() {
+		return (List<E>) getSource();
+	}
+
+	public Class<E> getType() {
+		return type;
+	}
+
+	@Override
+	public ResolvableType getResolvableType() {
+		return ResolvableType.forClassWithGenerics(getClass(), ResolvableType.forClass(type));
+	}
+
+}
@@ -0,0 +1,31 @@
+package org.springframework.data.relational.core.query;
+
+import org.springframework.util.Assert;
+
+/**
+ * 数值字段原子自增，用法Update.update("age", Increment.of(1))，生成 age = age + :p0
+ *
+ */
+public final class Increment {
+
+	private final Number delta;
+
+	private Increment(Number delta) {
+		this.delta = delta;
+	}
+
+	public static Increment of(Number delta) {
+		Assert.notNull(delta, "Delta must not be null");
+		return new Increment(delta);
+	}
+
+	public Number getDelta() {
+		return delta;
+	}
+
+	@Override
+	public String toString() {
+		return "+ " + delta;
+	}
+
+}